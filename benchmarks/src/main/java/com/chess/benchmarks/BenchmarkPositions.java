@@ -0,0 +1,61 @@
+package com.chess.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.move.Move;
+import com.chess.engine.move.Move.MoveFactory;
+import com.chess.engine.move.MoveTransition;
+import com.chess.engine.perft.PerftSuite;
+import com.chess.engine.perft.PerftSuite.PerftPosition;
+
+public final class BenchmarkPositions {
+
+	private static final String[] OPENING_LINES = {
+		"e2e4 e7e5 g1f3 b8c6 f1b5 a7a6 b5a4 g8f6 e1g1 f8e7 f1e1 b7b5 a4b3 d7d6 c2c3 e8g8 h2h3",
+		"d2d4 d7d5 c2c4 e7e6 b1c3 g8f6 c1g5 f8e7 e2e3 e8g8 g1f3 b8d7 a1c1 c7c6 f1d3 d5c4 d3c4",
+		"e2e4 c7c5 g1f3 d7d6 d2d4 c5d4 f3d4 g8f6 b1c3 a7a6 c1e3 e7e5 d4b3 c8e6 f2f3 b8d7 d1d2",
+		"e2e4 e7e6 d2d4 d7d5 b1c3 g8f6 e4e5 f6d7 f2f4 c7c5 g1f3 b8c6 c1e3 c5d4 f3d4 f8c5 d1d2 e8g8",
+		"e2e4 e7e6 e4e5 d7d5"
+	};
+
+	private static final String[] PERFT_POSITIONS = { "kiwipete", "castlingPromotion", "promotionChecks" };
+
+	private BenchmarkPositions() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static List<Board> createMiddlegamePositions() {
+		final List<Board> boards = new ArrayList<Board>();
+		for(final String line : OPENING_LINES) {
+			boards.add(replay(Board.createStandardBoard(), line));
+		}
+		for(final PerftPosition position : PerftSuite.POSITIONS) {
+			for(final String name : PERFT_POSITIONS) {
+				if(name.equals(position.getName())) {
+					boards.add(position.createBoard());
+				}
+			}
+		}
+		return Collections.unmodifiableList(boards);
+	}
+
+	private static Board replay(final Board board, final String line) {
+		Board current = board;
+		for(final String coordinates : line.split(" ")) {
+			final Move move = MoveFactory.createMove(current,
+					BoardUtils.decodePosition(coordinates.substring(0, 2)),
+					BoardUtils.decodePosition(coordinates.substring(2, 4)));
+			final MoveTransition transition = current.getCurrentPlayer().makeMove(move);
+			if(!transition.getMoveStatus().isDone()) {
+				throw new RuntimeException(String.format("Illegal move %s in line: %s", coordinates, line));
+			}
+			current = transition.getBoard();
+		}
+		return current;
+	}
+
+}
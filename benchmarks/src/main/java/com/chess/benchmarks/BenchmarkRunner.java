@@ -0,0 +1,49 @@
+package com.chess.benchmarks;
+
+import java.io.IOException;
+import java.util.Date;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static void main(final String[] args) throws CommandLineOptionException, IOException, RunnerException {
+		final CommandLineOptions options = new CommandLineOptions(args);
+		if(options.shouldHelp() || options.shouldList() || options.shouldListProfilers() ||
+				options.shouldListResultFormats() || options.shouldListWithParams()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+		final ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+		if(!hasGCProfiler(options)) {
+			builder.addProfiler(GCProfiler.class);
+		}
+		if(!options.getResult().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON)
+				.result(String.format("jmh-result-%tY%<tm%<td-%<tH%<tM%<tS.json", new Date()));
+		}
+		new Runner(builder.build()).run();
+	}
+
+	private static boolean hasGCProfiler(final CommandLineOptions options) {
+		for(final ProfilerConfig profiler : options.getProfilers()) {
+			if(profiler.getKlass().equals("gc") || profiler.getKlass().equals(GCProfiler.class.getName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
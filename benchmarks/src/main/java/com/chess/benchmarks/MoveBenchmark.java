@@ -0,0 +1,60 @@
+package com.chess.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.move.Move;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveBenchmark {
+
+	@Param({ "MajorMove", "MajorAttackMove", "PawnMove", "PawnJump", "PawnAttackMove", "PawnEnPassantAttackMove",
+		"PawnPromotion", "KingSideCastleMove", "QueenSideCastleMove" })
+	private String moveType;
+
+	private Move[] moves;
+
+	@Setup
+	public void setup() {
+		final List<Move> moves = new ArrayList<Move>();
+		for(final Board board : BenchmarkPositions.createMiddlegamePositions()) {
+			for(final Move move : board.getCurrentPlayer().getLegalMoves()) {
+				if(move.getClass().getSimpleName().equals(this.moveType)) {
+					moves.add(move);
+				}
+			}
+		}
+		if(moves.isEmpty()) {
+			throw new RuntimeException(String.format("No %s found in the benchmark positions!", this.moveType));
+		}
+		this.moves = moves.toArray(new Move[moves.size()]);
+	}
+
+	@Benchmark
+	public void execute(final Blackhole blackhole) {
+		for(final Move move : this.moves) {
+			blackhole.consume(move.execute());
+		}
+	}
+
+}
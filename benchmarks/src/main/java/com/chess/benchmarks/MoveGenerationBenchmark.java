@@ -0,0 +1,56 @@
+package com.chess.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.LegalMoveGenerator;
+import com.chess.engine.move.MoveBuffer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGenerationBenchmark {
+
+	private Board[] boards;
+	private MoveBuffer moveBuffer;
+
+	@Setup
+	public void setup() {
+		final List<Board> boards = BenchmarkPositions.createMiddlegamePositions();
+		this.boards = boards.toArray(new Board[boards.size()]);
+		this.moveBuffer = new MoveBuffer(0);
+	}
+
+	@Benchmark
+	public void calculateLegalMoves(final Blackhole blackhole) {
+		for(final Board board : this.boards) {
+			blackhole.consume(LegalMoveGenerator.calculateLegalMoves(board, board.getMoveMaker()));
+		}
+	}
+
+	@Benchmark
+	public int generateMoves() {
+		int count = 0;
+		for(final Board board : this.boards) {
+			count += this.moveBuffer.generate(board, 0);
+		}
+		return count;
+	}
+
+}
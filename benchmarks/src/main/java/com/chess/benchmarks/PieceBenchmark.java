@@ -0,0 +1,60 @@
+package com.chess.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Piece;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceBenchmark {
+
+	@Param({ "PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING" })
+	private Piece.Type type;
+
+	private Board[] boards;
+	private Piece[] pieces;
+
+	@Setup
+	public void setup() {
+		final List<Board> boards = new ArrayList<Board>();
+		final List<Piece> pieces = new ArrayList<Piece>();
+		for(final Board board : BenchmarkPositions.createMiddlegamePositions()) {
+			for(final Piece piece : board.getAllActivePieces()) {
+				if(piece.getType() == this.type) {
+					boards.add(board);
+					pieces.add(piece);
+				}
+			}
+		}
+		this.boards = boards.toArray(new Board[boards.size()]);
+		this.pieces = pieces.toArray(new Piece[pieces.size()]);
+	}
+
+	@Benchmark
+	public void calculateLegalMoves(final Blackhole blackhole) {
+		for(int i = 0; i < this.pieces.length; i++) {
+			blackhole.consume(this.pieces[i].calculateLegalMoves(this.boards[i]));
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.chess.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.move.Move;
+import com.chess.engine.move.Move.MoveFactory;
+import com.chess.engine.player.Player;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+	private Board[] boards;
+	private Player[] players;
+	private Move[] moves;
+
+	@Setup
+	public void setup() {
+		final List<Board> boards = new ArrayList<Board>();
+		final List<Player> players = new ArrayList<Player>();
+		final List<Move> moves = new ArrayList<Move>();
+		for(final Board board : BenchmarkPositions.createMiddlegamePositions()) {
+			final Player player = board.getCurrentPlayer();
+			for(final Move move : player.getLegalMoves()) {
+				boards.add(board);
+				players.add(player);
+				moves.add(move);
+			}
+		}
+		this.boards = boards.toArray(new Board[boards.size()]);
+		this.players = players.toArray(new Player[players.size()]);
+		this.moves = moves.toArray(new Move[moves.size()]);
+	}
+
+	@Benchmark
+	public void makeMove(final Blackhole blackhole) {
+		for(int i = 0; i < this.moves.length; i++) {
+			blackhole.consume(this.players[i].makeMove(this.moves[i]));
+		}
+	}
+
+	@Benchmark
+	public void createMove(final Blackhole blackhole) {
+		for(int i = 0; i < this.moves.length; i++) {
+			blackhole.consume(MoveFactory.createMove(this.boards[i], this.moves[i].getPosition(),
+					this.moves[i].getDestination()));
+		}
+	}
+
+}
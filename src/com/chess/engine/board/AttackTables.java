@@ -0,0 +1,197 @@
+package com.chess.engine.board;
+
+import com.chess.engine.player.Alliance;
+
+public final class AttackTables {
+
+	private static final int[][] KNIGHT_OFFSETS = { { -2, -1 }, { -2, 1 }, { -1, -2 }, { -1, 2 }, { 1, -2 }, { 1, 2 }, { 2, -1 }, { 2, 1 } };
+	private static final int[][] KING_OFFSETS = { { -1, -1 }, { -1, 0 }, { -1, 1 }, { 0, -1 }, { 0, 1 }, { 1, -1 }, { 1, 0 }, { 1, 1 } };
+	private static final int[][] WHITE_PAWN_OFFSETS = { { -1, -1 }, { -1, 1 } };
+	private static final int[][] BLACK_PAWN_OFFSETS = { { 1, -1 }, { 1, 1 } };
+
+	private static final long[] KNIGHT_ATTACKS = initLeaperAttacks(KNIGHT_OFFSETS);
+	private static final long[] KING_ATTACKS = initLeaperAttacks(KING_OFFSETS);
+	private static final long[][] PAWN_ATTACKS = { initLeaperAttacks(WHITE_PAWN_OFFSETS), initLeaperAttacks(BLACK_PAWN_OFFSETS) };
+
+	private static final int[][] ROOK_DIRECTIONS = { { -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 } };
+	private static final int[][] BISHOP_DIRECTIONS = { { -1, -1 }, { -1, 1 }, { 1, -1 }, { 1, 1 } };
+
+	private static final long[] ROOK_MAGICS = {
+		0xA080028098400120L, 0x00C0001009402000L, 0x010010200041000AL, 0x1080040800801000L,
+		0x2080080002040080L, 0x0B00040012080D00L, 0x0200010084080200L, 0x020000844C010022L,
+		0x0800802040008000L, 0x8141004000208100L, 0x1003002000410011L, 0x0009001000A10900L,
+		0x0200808008000400L, 0x0031000804008300L, 0x2144000802041001L, 0x0081001068820100L,
+		0x0080004000402000L, 0x0010004000200040L, 0x0010410020030810L, 0x1810004040080400L,
+		0x0008008004008008L, 0x0000080140100420L, 0x1001010100020004L, 0x400012000455088CL,
+		0x0080004040002010L, 0x1000400080802000L, 0x0003044500142000L, 0x0540240900100100L,
+		0x400C001101000800L, 0x0000200801044010L, 0x0408020400081001L, 0x2000090200088044L,
+		0x8000804004800028L, 0x0002010022004080L, 0x8802001086002241L, 0x0880082501001000L,
+		0x0000040082800800L, 0xA800040080800200L, 0x40A0300144008208L, 0x40088000C2800500L,
+		0x0800204001918000L, 0x5100410082020020L, 0x0C00100020008080L, 0x0810100009010020L,
+		0x280C080101110004L, 0x9060040002008080L, 0x0800281001340002L, 0x4008009C00420005L,
+		0x0840250880104100L, 0x0040004080200080L, 0x00100483B0200080L, 0x8044084200102200L,
+		0x0380040080080080L, 0x001C040002008080L, 0x0288022108300400L, 0x0000008054010200L,
+		0x0003084110218001L, 0x048140010822B083L, 0x2000120A40200101L, 0x0021210410000901L,
+		0x000200310824A002L, 0x5001009A28040005L, 0x801800B01102080CL, 0x20400407102080C2L
+	};
+
+	private static final long[] BISHOP_MAGICS = {
+		0x1444200224082480L, 0x00020242041D0444L, 0x9010440080201000L, 0x080404108088C008L,
+		0x0088484002010002L, 0x0002080248020102L, 0x0004041222102000L, 0x1400240042082001L,
+		0x0401102001010A20L, 0x100010020200420EL, 0x0080344404004400L, 0x0180684489008000L,
+		0x0040840420941000L, 0x8880028A10412420L, 0x00CB010812300400L, 0x1080410900822000L,
+		0x8041102004148480L, 0x2804000850142042L, 0x00080421084C0080L, 0x0808000222004401L,
+		0x0044050580A00410L, 0x0041000A00822110L, 0x1002100242105400L, 0x0200800104014100L,
+		0x2504428110020800L, 0x805C143010100098L, 0x0002838350040180L, 0x0080404014010200L,
+		0xC011001081004000L, 0x0001010102100080L, 0x8008210004809880L, 0x8000404301140200L,
+		0x0208024020100409L, 0x0001101014629400L, 0x0102002400220802L, 0x1004202022080080L,
+		0x0040010010850040L, 0x0A100202008420A2L, 0x0028010040040221L, 0x0140840104008092L,
+		0x3001011013004050L, 0xC804240C24000200L, 0x00006A008A045000L, 0x0000444208002080L,
+		0x4100400292001301L, 0x090202404300C200L, 0x9104014849048200L, 0x40090242020A8640L,
+		0x0000510821100080L, 0x0001010090440600L, 0x010104320910214CL, 0x2042000210440420L,
+		0x0002000C2D041000L, 0x0100881004A82000L, 0x0248080818444200L, 0x20A0088101002000L,
+		0x4001004200A00830L, 0x2004030509100200L, 0x2010002420A41000L, 0x0202001100420206L,
+		0xC208022420042410L, 0x640000402408C080L, 0x1000200204012400L, 0x0040104401004310L
+	};
+
+	private static final SliderTable ROOK_TABLE = new SliderTable(ROOK_DIRECTIONS, ROOK_MAGICS);
+	private static final SliderTable BISHOP_TABLE = new SliderTable(BISHOP_DIRECTIONS, BISHOP_MAGICS);
+
+	private static final long[][] BETWEEN = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+	private static final long[][] LINES = new long[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+
+	static {
+		for(int from = 0; from < BoardUtils.NUM_TILES; from++) {
+			for(int to = 0; to < BoardUtils.NUM_TILES; to++) {
+				if(from == to) continue;
+				final long ends = BitBoard.squareMask(from) | BitBoard.squareMask(to);
+				if(BitBoard.isSet(rookAttacks(from, BitBoard.EMPTY), to)) {
+					BETWEEN[from][to] = rookAttacks(from, ends) & rookAttacks(to, ends);
+					LINES[from][to] = (rookAttacks(from, BitBoard.EMPTY) & rookAttacks(to, BitBoard.EMPTY)) | ends;
+				}else if(BitBoard.isSet(bishopAttacks(from, BitBoard.EMPTY), to)) {
+					BETWEEN[from][to] = bishopAttacks(from, ends) & bishopAttacks(to, ends);
+					LINES[from][to] = (bishopAttacks(from, BitBoard.EMPTY) & bishopAttacks(to, BitBoard.EMPTY)) | ends;
+				}
+			}
+		}
+	}
+
+	private AttackTables() {
+		throw new RuntimeException("You cannot instantiate me!");
+	}
+
+	public static long knightAttacks(final int position) {
+		return KNIGHT_ATTACKS[position];
+	}
+
+	public static long kingAttacks(final int position) {
+		return KING_ATTACKS[position];
+	}
+
+	public static long pawnAttacks(final Alliance ally, final int position) {
+		return PAWN_ATTACKS[ally.ordinal()][position];
+	}
+
+	public static long rookAttacks(final int position, final long occupancy) {
+		return ROOK_TABLE.attacks(position, occupancy);
+	}
+
+	public static long bishopAttacks(final int position, final long occupancy) {
+		return BISHOP_TABLE.attacks(position, occupancy);
+	}
+
+	public static long queenAttacks(final int position, final long occupancy) {
+		return ROOK_TABLE.attacks(position, occupancy) | BISHOP_TABLE.attacks(position, occupancy);
+	}
+
+	public static long between(final int from, final int to) {
+		return BETWEEN[from][to];
+	}
+
+	public static long line(final int from, final int to) {
+		return LINES[from][to];
+	}
+
+	private static long[] initLeaperAttacks(final int[][] offsets) {
+		final long[] attacks = new long[BoardUtils.NUM_TILES];
+		for(int position = 0; position < BoardUtils.NUM_TILES; position++) {
+			final int row = position / BoardUtils.NUM_TILES_PER_ROW;
+			final int col = position % BoardUtils.NUM_TILES_PER_ROW;
+			for(final int[] offset : offsets) {
+				final int r = row + offset[0];
+				final int c = col + offset[1];
+				if(isOnBoard(r, c)) {
+					attacks[position] |= BitBoard.squareMask(r * BoardUtils.NUM_TILES_PER_ROW + c);
+				}
+			}
+		}
+		return attacks;
+	}
+
+	private static long slidingAttacks(final int position, final long occupancy, final int[][] directions,
+			final boolean relevantOnly) {
+		final int row = position / BoardUtils.NUM_TILES_PER_ROW;
+		final int col = position % BoardUtils.NUM_TILES_PER_ROW;
+		long attacks = BitBoard.EMPTY;
+		for(final int[] direction : directions) {
+			int r = row + direction[0];
+			int c = col + direction[1];
+			while(isOnBoard(r, c)) {
+				if(relevantOnly && !isOnBoard(r + direction[0], c + direction[1])) break;
+				final long mask = BitBoard.squareMask(r * BoardUtils.NUM_TILES_PER_ROW + c);
+				attacks |= mask;
+				if((occupancy & mask) != 0) break;
+				r += direction[0];
+				c += direction[1];
+			}
+		}
+		return attacks;
+	}
+
+	private static boolean isOnBoard(final int row, final int col) {
+		return row >= 0 && row < BoardUtils.NUM_TILES_PER_ROW && col >= 0 && col < BoardUtils.NUM_TILES_PER_ROW;
+	}
+
+	private static final class SliderTable {
+
+		private final long[] masks;
+		private final long[] magics;
+		private final int[] shifts;
+		private final long[][] attacks;
+
+		private SliderTable(final int[][] directions, final long[] magics) {
+			this.masks = new long[BoardUtils.NUM_TILES];
+			this.magics = magics;
+			this.shifts = new int[BoardUtils.NUM_TILES];
+			this.attacks = new long[BoardUtils.NUM_TILES][];
+			for(int position = 0; position < BoardUtils.NUM_TILES; position++) {
+				initSquare(position, directions);
+			}
+		}
+
+		private long attacks(final int position, final long occupancy) {
+			return this.attacks[position][(int) (((occupancy & this.masks[position]) * this.magics[position]) >>> this.shifts[position])];
+		}
+
+		private void initSquare(final int position, final int[][] directions) {
+			final long mask = slidingAttacks(position, BitBoard.EMPTY, directions, true);
+			final int bits = BitBoard.count(mask);
+			final long[] table = new long[1 << bits];
+			long subset = BitBoard.EMPTY;
+			do {
+				final long reference = slidingAttacks(position, subset, directions, false);
+				final int index = (int) ((subset * this.magics[position]) >>> (64 - bits));
+				if(table[index] != BitBoard.EMPTY && table[index] != reference) {
+					throw new RuntimeException(String.format("Bad magic for tile %d!", position));
+				}
+				table[index] = reference;
+				subset = (subset - mask) & mask;
+			} while(subset != BitBoard.EMPTY);
+			this.masks[position] = mask;
+			this.shifts[position] = 64 - bits;
+			this.attacks[position] = table;
+		}
+
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.Alliance;
+
+public final class BitBoard {
+
+	public static final long EMPTY = 0L;
+	public static final long FULL = ~0L;
+
+	public static final int NUM_PIECE_TYPES = 6;
+	public static final int NUM_PIECE_MASKS = NUM_PIECE_TYPES * 2;
+
+	private static final Piece.Type[] PIECE_TYPES = Piece.Type.values();
+
+	private BitBoard() {
+		throw new RuntimeException("You cannot instantiate me!");
+	}
+
+	public static long squareMask(final int position) {
+		return 1L << position;
+	}
+
+	public static boolean isSet(final long mask, final int position) {
+		return (mask & (1L << position)) != 0;
+	}
+
+	public static int firstSquare(final long mask) {
+		return Long.numberOfTrailingZeros(mask);
+	}
+
+	public static long clearFirstSquare(final long mask) {
+		return mask & (mask - 1);
+	}
+
+	public static int count(final long mask) {
+		return Long.bitCount(mask);
+	}
+
+	public static int maskIndex(final Alliance ally, final Piece.Type type) {
+		return ally.ordinal() * NUM_PIECE_TYPES + type.ordinal();
+	}
+
+	public static Piece.Type typeOf(final int maskIndex) {
+		return PIECE_TYPES[maskIndex % NUM_PIECE_TYPES];
+	}
+
+	public static String toString(final long mask) {
+		final StringBuilder sb = new StringBuilder();
+		for(int i=0;i<BoardUtils.NUM_TILES;i++) {
+			sb.append(isSet(mask, i) ? " 1" : " .");
+			if(i % BoardUtils.NUM_TILES_PER_ROW == 7 && i < BoardUtils.NUM_TILES-1) sb.append("\n");
+		}
+		return sb.toString();
+	}
+
+}
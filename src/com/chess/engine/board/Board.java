@@ -1,12 +1,11 @@
 package com.chess.engine.board;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 import java.util.stream.IntStream;
 
 import com.chess.engine.move.Move;
@@ -24,45 +23,140 @@ import com.chess.engine.player.WhitePlayer;
 
 public class Board {
 
-	private final List<Tile> tiles;
+	private final Piece[] mailbox;
+	private final long[] pieceMasks;
+	private final long whiteOccupancy;
+	private final long blackOccupancy;
+	
 	private final Collection<Piece> whitePieces;
 	private final Collection<Piece> blackPieces;
 	
-	private final WhitePlayer whitePlayer;
-	private final BlackPlayer blackPlayer;
-	private final Player currentPlayer;
-	
+	private final Alliance moveMaker;
 	private final Pawn enPassantPawn;
+	private final int castlingRights;
+	private final long zobristKey;
+	private final long pawnKey;
+	private final int pieceSquareScore;
+	private final int halfmoveClock;
+	private final int fullmoveNumber;
+	
+	private long whiteAttacks;
+	private long blackAttacks;
+	private Collection<Move> whiteLegalMoves;
+	private Collection<Move> blackLegalMoves;
+	private WhitePlayer whitePlayer;
+	private BlackPlayer blackPlayer;
 	
 	private Board(final Builder builder) {
-		this.tiles = IntStream.range(0,BoardUtils.NUM_TILES)
-				.mapToObj(i -> Tile.createTile(i, builder.pieces.get(i)))
-				.collect(Collectors.toList());
-		this.whitePieces = calculateActivePieces(Alliance.WHITE);
-		this.blackPieces = calculateActivePieces(Alliance.BLACK);
-		
-		final Collection<Move> whiteLegalMoves = calculateLegalMoves(whitePieces);
-		final Collection<Move> blackLegalMoves = calculateLegalMoves(blackPieces);
-
-		this.whitePlayer = new WhitePlayer(this, whiteLegalMoves, blackLegalMoves);
-		this.blackPlayer = new BlackPlayer(this, blackLegalMoves, whiteLegalMoves);
-		this.currentPlayer = builder.moveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
-		
+		this.mailbox = builder.pieces.clone();
+		this.pieceMasks = new long[BitBoard.NUM_PIECE_MASKS];
+		long whiteOccupancy = BitBoard.EMPTY;
+		long blackOccupancy = BitBoard.EMPTY;
+		for(final Piece piece : this.mailbox) {
+			if(piece == null) continue;
+			final long mask = BitBoard.squareMask(piece.getPosition());
+			this.pieceMasks[BitBoard.maskIndex(piece.getAlliance(), piece.getType())] |= mask;
+			if(piece.getAlliance().isWhite()) {
+				whiteOccupancy |= mask;
+			}else {
+				blackOccupancy |= mask;
+			}
+		}
+		this.whiteOccupancy = whiteOccupancy;
+		this.blackOccupancy = blackOccupancy;
+		this.whitePieces = calculateActivePieces(whiteOccupancy);
+		this.blackPieces = calculateActivePieces(blackOccupancy);
+		this.moveMaker = builder.moveMaker;
 		this.enPassantPawn = builder.enPassantPawn;
+		this.castlingRights = CastlingRights.calculate(this);
+		this.zobristKey = builder.isZobristKeySet ? builder.zobristKey : Zobrist.calculateKey(this);
+		this.pawnKey = builder.isPawnKeySet ? builder.pawnKey :
+			Zobrist.calculatePawnKey(getPieces(Alliance.WHITE, Piece.Type.PAWN), getPieces(Alliance.BLACK, Piece.Type.PAWN));
+		this.pieceSquareScore = builder.isPieceSquareScoreSet ? builder.pieceSquareScore :
+			PieceSquareTables.calculateScore(this);
+		this.halfmoveClock = builder.halfmoveClock;
+		this.fullmoveNumber = builder.fullmoveNumber;
+	}
+	
+	@Override
+	public boolean equals(final Object other) {
+		if(this == other) return true;
+		if(!(other instanceof Board)) return false;
+		final Board board = (Board) other;
+		return this.zobristKey == board.zobristKey &&
+				this.moveMaker == board.moveMaker &&
+				this.castlingRights == board.castlingRights &&
+				Objects.equals(this.enPassantPawn, board.enPassantPawn) &&
+				Arrays.equals(this.mailbox, board.mailbox);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Long.hashCode(this.zobristKey);
 	}
 	
 	@Override
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		for(int i=0;i<BoardUtils.NUM_TILES;i++) {
-			sb.append(String.format("%3s", this.tiles.get(i)));
+			sb.append(String.format("%3s", getTile(i)));
 			if(i % BoardUtils.NUM_TILES_PER_ROW == 7 && i < BoardUtils.NUM_TILES-1) sb.append("\n");
 		}
 		return sb.toString();
 	}
 	
 	public Tile getTile(final int position) {
-		return tiles.get(position);
+		return Tile.createTile(position, this.mailbox[position]);
+	}
+	
+	public Piece getPiece(final int position) {
+		return this.mailbox[position];
+	}
+	
+	public boolean isOccupied(final int position) {
+		return BitBoard.isSet(getOccupancy(), position);
+	}
+	
+	public long getPieces(final Alliance ally, final Piece.Type type) {
+		return this.pieceMasks[BitBoard.maskIndex(ally, type)];
+	}
+	
+	public long getOccupancy(final Alliance ally) {
+		return ally.isWhite() ? this.whiteOccupancy : this.blackOccupancy;
+	}
+	
+	public long getOccupancy() {
+		return this.whiteOccupancy | this.blackOccupancy;
+	}
+	
+	public long getAttackers(final int position, final Alliance attacker) {
+		return calculateAttackers(position, attacker, getOccupancy());
+	}
+	
+	public long getAttackedSquares(final Alliance attacker) {
+		if(attacker.isWhite()) {
+			if(this.whiteAttacks == BitBoard.EMPTY) {
+				this.whiteAttacks = calculateAttackedSquares(Alliance.WHITE);
+			}
+			return this.whiteAttacks;
+		}
+		if(this.blackAttacks == BitBoard.EMPTY) {
+			this.blackAttacks = calculateAttackedSquares(Alliance.BLACK);
+		}
+		return this.blackAttacks;
+	}
+	
+	public boolean isSquareAttacked(final int position, final Alliance attacker) {
+		return BitBoard.isSet(getAttackedSquares(attacker), position);
+	}
+	
+	public long calculateAttackers(final int position, final Alliance attacker, final long occupancy) {
+		final long queens = getPieces(attacker, Piece.Type.QUEEN);
+		return (AttackTables.pawnAttacks(attacker.getOpposite(), position) & getPieces(attacker, Piece.Type.PAWN)) |
+			(AttackTables.knightAttacks(position) & getPieces(attacker, Piece.Type.KNIGHT)) |
+			(AttackTables.kingAttacks(position) & getPieces(attacker, Piece.Type.KING)) |
+			(AttackTables.bishopAttacks(position, occupancy) & (getPieces(attacker, Piece.Type.BISHOP) | queens)) |
+			(AttackTables.rookAttacks(position, occupancy) & (getPieces(attacker, Piece.Type.ROOK) | queens));
 	}
 	
 	public Collection<Piece> getWhiteActivePieces() {
@@ -81,46 +175,115 @@ public class Board {
 	}
 	
 	public WhitePlayer getWhitePlayer() {
+		if(this.whitePlayer == null) {
+			this.whitePlayer = new WhitePlayer(this);
+		}
 		return this.whitePlayer;
 	}
 	
 	public BlackPlayer getBlackPlayer() {
+		if(this.blackPlayer == null) {
+			this.blackPlayer = new BlackPlayer(this);
+		}
 		return this.blackPlayer;
 	}
 	
 	public Player getCurrentPlayer() {
-		return this.currentPlayer;
+		return this.moveMaker.isWhite() ? getWhitePlayer() : getBlackPlayer();
+	}
+	
+	public Collection<Move> getPieceLegalMoves(final Alliance ally) {
+		if(ally.isWhite()) {
+			if(this.whiteLegalMoves == null) {
+				this.whiteLegalMoves = LegalMoveGenerator.calculateLegalMoves(this, Alliance.WHITE);
+			}
+			return this.whiteLegalMoves;
+		}
+		if(this.blackLegalMoves == null) {
+			this.blackLegalMoves = LegalMoveGenerator.calculateLegalMoves(this, Alliance.BLACK);
+		}
+		return this.blackLegalMoves;
 	}
 	
 	public Pawn getEnPassantPawn() {
 		return this.enPassantPawn;
 	}
 	
+	public Alliance getMoveMaker() {
+		return this.moveMaker;
+	}
+	
+	public int getCastlingRights() {
+		return this.castlingRights;
+	}
+	
+	public long getZobristKey() {
+		return this.zobristKey;
+	}
+	
+	public long getPawnKey() {
+		return this.pawnKey;
+	}
+	
+	public int getPieceSquareScore() {
+		return this.pieceSquareScore;
+	}
+	
+	public int getHalfmoveClock() {
+		return this.halfmoveClock;
+	}
+	
+	public int getFullmoveNumber() {
+		return this.fullmoveNumber;
+	}
+	
+	public Board copy() {
+		return new Builder(this.moveMaker)
+			.setPieces(this)
+			.setEnPassantPawn(this.enPassantPawn)
+			.setZobristKey(this.zobristKey)
+			.setPawnKey(this.pawnKey)
+			.setPieceSquareScore(this.pieceSquareScore)
+			.setHalfmoveClock(this.halfmoveClock)
+			.setFullmoveNumber(this.fullmoveNumber)
+			.build();
+	}
+	
 	public Collection<Move> getAllLegalMoves() {
 		final Collection<Move> legalMoves = new ArrayList<Move>();
-		this.whitePlayer.getLegalMoves().forEach(legalMoves::add);
-		this.blackPlayer.getLegalMoves().forEach(legalMoves::add);
+		getWhitePlayer().getLegalMoves().forEach(legalMoves::add);
+		getBlackPlayer().getLegalMoves().forEach(legalMoves::add);
 		return Collections.unmodifiableCollection(legalMoves);
 	}
 	
-	private Collection<Piece> calculateActivePieces(final Alliance ally) {
-		return Collections.unmodifiableCollection(
-			this.tiles
-				.stream()
-				.filter(Tile::isOccupied)
-				.map(Tile::getPiece)
-				.filter(piece -> piece.getAlliance().equals(ally))
-				.collect(Collectors.toList())
-		);
+	private long calculateAttackedSquares(final Alliance attacker) {
+		final long occupancy = getOccupancy();
+		final long queens = getPieces(attacker, Piece.Type.QUEEN);
+		long attacks = BitBoard.EMPTY;
+		for(long pieces = getPieces(attacker, Piece.Type.PAWN); pieces != BitBoard.EMPTY; pieces = BitBoard.clearFirstSquare(pieces)) {
+			attacks |= AttackTables.pawnAttacks(attacker, BitBoard.firstSquare(pieces));
+		}
+		for(long pieces = getPieces(attacker, Piece.Type.KNIGHT); pieces != BitBoard.EMPTY; pieces = BitBoard.clearFirstSquare(pieces)) {
+			attacks |= AttackTables.knightAttacks(BitBoard.firstSquare(pieces));
+		}
+		for(long pieces = getPieces(attacker, Piece.Type.BISHOP) | queens; pieces != BitBoard.EMPTY; pieces = BitBoard.clearFirstSquare(pieces)) {
+			attacks |= AttackTables.bishopAttacks(BitBoard.firstSquare(pieces), occupancy);
+		}
+		for(long pieces = getPieces(attacker, Piece.Type.ROOK) | queens; pieces != BitBoard.EMPTY; pieces = BitBoard.clearFirstSquare(pieces)) {
+			attacks |= AttackTables.rookAttacks(BitBoard.firstSquare(pieces), occupancy);
+		}
+		for(long pieces = getPieces(attacker, Piece.Type.KING); pieces != BitBoard.EMPTY; pieces = BitBoard.clearFirstSquare(pieces)) {
+			attacks |= AttackTables.kingAttacks(BitBoard.firstSquare(pieces));
+		}
+		return attacks;
 	}
 	
-	private Collection<Move> calculateLegalMoves(final Collection<Piece> activePieces) {
-		return Collections.unmodifiableCollection(
-			activePieces
-				.stream()
-				.map(piece -> piece.calculateLegalMoves(this))
-				.reduce(new ArrayList<Move>(),(a,b) -> { a.addAll(b); return a; })
-		);
+	private Collection<Piece> calculateActivePieces(final long occupancy) {
+		final List<Piece> activePieces = new ArrayList<Piece>(BitBoard.count(occupancy));
+		for(long mask = occupancy; mask != BitBoard.EMPTY; mask = BitBoard.clearFirstSquare(mask)) {
+			activePieces.add(this.mailbox[BitBoard.firstSquare(mask)]);
+		}
+		return Collections.unmodifiableCollection(activePieces);
 	}
 	
 	public static Board createStandardBoard() {
@@ -140,8 +303,8 @@ public class Board {
 			.setPiece(new Rook(Alliance.WHITE, 63))
 			.setPiece(new Knight(Alliance.WHITE, 62))
 			.setPiece(new Bishop(Alliance.WHITE, 61))
-			.setPiece(new Queen(Alliance.WHITE, 60))
-			.setPiece(new King(Alliance.WHITE, 59))
+			.setPiece(new King(Alliance.WHITE, 60))
+			.setPiece(new Queen(Alliance.WHITE, 59))
 			.setPiece(new Bishop(Alliance.WHITE, 58))
 			.setPiece(new Knight(Alliance.WHITE, 57))
 			.setPiece(new Rook(Alliance.WHITE, 56));
@@ -157,17 +320,50 @@ public class Board {
 	
 	public static final class Builder {
 		
-		final Map<Integer,Piece> pieces;
+		final Piece[] pieces;
 		final Alliance moveMaker;
 		Pawn enPassantPawn;
+		long zobristKey;
+		boolean isZobristKeySet;
+		long pawnKey;
+		boolean isPawnKeySet;
+		int pieceSquareScore;
+		boolean isPieceSquareScoreSet;
+		int halfmoveClock;
+		int fullmoveNumber;
 		
 		public Builder(final Alliance nextMoveMaker) {
 			this.moveMaker = nextMoveMaker;
-			this.pieces = new HashMap<Integer,Piece>();
+			this.pieces = new Piece[BoardUtils.NUM_TILES];
+			this.fullmoveNumber = 1;
 		}
 		
 		public Builder setPiece(final Piece piece) {
-			if(piece != null) this.pieces.put(piece.getPosition(), piece);
+			if(piece != null) this.pieces[piece.getPosition()] = piece;
+			return this;
+		}
+		
+		public Builder setPieces(final Piece[] mailbox) {
+			if(mailbox.length != BoardUtils.NUM_TILES) {
+				throw new RuntimeException(String.format("Expected %d squares but got %d!", BoardUtils.NUM_TILES,
+						mailbox.length));
+			}
+			for(int i=0;i<BoardUtils.NUM_TILES;i++) {
+				if(mailbox[i] != null && mailbox[i].getPosition() != i) {
+					throw new RuntimeException(String.format("%s does not belong on square %d!", mailbox[i], i));
+				}
+			}
+			System.arraycopy(mailbox, 0, this.pieces, 0, BoardUtils.NUM_TILES);
+			return this;
+		}
+		
+		public Builder setPieces(final Board board) {
+			System.arraycopy(board.mailbox, 0, this.pieces, 0, BoardUtils.NUM_TILES);
+			return this;
+		}
+		
+		public Builder clearPiece(final int position) {
+			this.pieces[position] = null;
 			return this;
 		}
 		
@@ -176,6 +372,34 @@ public class Board {
 			return this;
 		}
 		
+		public Builder setZobristKey(final long zobristKey) {
+			this.zobristKey = zobristKey;
+			this.isZobristKeySet = true;
+			return this;
+		}
+		
+		public Builder setPawnKey(final long pawnKey) {
+			this.pawnKey = pawnKey;
+			this.isPawnKeySet = true;
+			return this;
+		}
+		
+		public Builder setPieceSquareScore(final int pieceSquareScore) {
+			this.pieceSquareScore = pieceSquareScore;
+			this.isPieceSquareScoreSet = true;
+			return this;
+		}
+		
+		public Builder setHalfmoveClock(final int halfmoveClock) {
+			this.halfmoveClock = halfmoveClock;
+			return this;
+		}
+		
+		public Builder setFullmoveNumber(final int fullmoveNumber) {
+			this.fullmoveNumber = fullmoveNumber;
+			return this;
+		}
+		
 		public Board build() {
 			return new Board(this);
 		}
@@ -17,8 +17,10 @@ public class BoardUtils {
 	public static final boolean[] SEVENTH_COLUMN = initColumn(6);
 	public static final boolean[] EIGHTH_COLUMN = initColumn(7);
 
+	public static final boolean[] FIRST_ROW = initRow(0);
 	public static final boolean[] SECOND_ROW = initRow(1);
 	public static final boolean[] SEVENTH_ROW = initRow(6);
+	public static final boolean[] EIGHTH_ROW = initRow(7);
 
 	private static final char[] LETTERS = "abcdefgh".toCharArray();
 	public static final List<String> ALGEBRAIC_NOTATION;
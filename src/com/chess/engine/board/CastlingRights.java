@@ -0,0 +1,58 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.Alliance;
+
+public final class CastlingRights {
+
+	public static final int NONE = 0;
+	public static final int WHITE_KING_SIDE = 1;
+	public static final int WHITE_QUEEN_SIDE = 2;
+	public static final int BLACK_KING_SIDE = 4;
+	public static final int BLACK_QUEEN_SIDE = 8;
+	public static final int ALL = WHITE_KING_SIDE | WHITE_QUEEN_SIDE | BLACK_KING_SIDE | BLACK_QUEEN_SIDE;
+	public static final int NUM_COMBINATIONS = 16;
+
+	private static final int[] RIGHTS_KEPT = initRightsKept();
+
+	private CastlingRights() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static int calculate(final Board board) {
+		int rights = NONE;
+		if(isUnmoved(board, 60, Alliance.WHITE, Piece.Type.KING)) {
+			if(isUnmoved(board, 63, Alliance.WHITE, Piece.Type.ROOK)) rights |= WHITE_KING_SIDE;
+			if(isUnmoved(board, 56, Alliance.WHITE, Piece.Type.ROOK)) rights |= WHITE_QUEEN_SIDE;
+		}
+		if(isUnmoved(board, 4, Alliance.BLACK, Piece.Type.KING)) {
+			if(isUnmoved(board, 7, Alliance.BLACK, Piece.Type.ROOK)) rights |= BLACK_KING_SIDE;
+			if(isUnmoved(board, 0, Alliance.BLACK, Piece.Type.ROOK)) rights |= BLACK_QUEEN_SIDE;
+		}
+		return rights;
+	}
+
+	public static int update(final int rights, final int position, final int destination) {
+		return rights & RIGHTS_KEPT[position] & RIGHTS_KEPT[destination];
+	}
+
+	private static boolean isUnmoved(final Board board, final int position, final Alliance ally, final Piece.Type type) {
+		final Piece piece = board.getPiece(position);
+		return piece != null && piece.getAlliance() == ally && piece.getType() == type && piece.isFirstMove();
+	}
+
+	private static int[] initRightsKept() {
+		final int[] rights = new int[BoardUtils.NUM_TILES];
+		for(int position = 0; position < BoardUtils.NUM_TILES; position++) {
+			rights[position] = ALL;
+		}
+		rights[60] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+		rights[63] &= ~WHITE_KING_SIDE;
+		rights[56] &= ~WHITE_QUEEN_SIDE;
+		rights[4] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+		rights[7] &= ~BLACK_KING_SIDE;
+		rights[0] &= ~BLACK_QUEEN_SIDE;
+		return rights;
+	}
+
+}
@@ -0,0 +1,322 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Bishop;
+import com.chess.engine.pieces.King;
+import com.chess.engine.pieces.Knight;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Queen;
+import com.chess.engine.pieces.Rook;
+import com.chess.engine.player.Alliance;
+
+public final class FenUtilities {
+
+	public static final String STANDARD_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	private static final int[] INITIAL_WHITE_SQUARES = { 63, 62, 61, 59, 60, -1 };
+	private static final int[] INITIAL_BLACK_SQUARES = { 7, 6, 5, 3, 4, -1 };
+
+	private FenUtilities() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static Board createGameFromFEN(final String fen) {
+		return new FenParser(fen).parse();
+	}
+
+	public static String createFENFromGame(final Board board) {
+		final StringBuilder sb = new StringBuilder(90);
+		int emptySquares = 0;
+		for(int i=0;i<BoardUtils.NUM_TILES;i++) {
+			final Piece piece = board.getPiece(i);
+			if(piece == null) {
+				emptySquares++;
+			}else {
+				if(emptySquares > 0) {
+					sb.append((char) ('0' + emptySquares));
+					emptySquares = 0;
+				}
+				sb.append(toFenChar(piece));
+			}
+			if(i % BoardUtils.NUM_TILES_PER_ROW == 7) {
+				if(emptySquares > 0) {
+					sb.append((char) ('0' + emptySquares));
+					emptySquares = 0;
+				}
+				if(i < BoardUtils.NUM_TILES-1) sb.append('/');
+			}
+		}
+		sb.append(' ').append(board.getMoveMaker().isWhite() ? 'w' : 'b').append(' ');
+
+		final int castlingRights = board.getCastlingRights();
+		if(castlingRights == CastlingRights.NONE) {
+			sb.append('-');
+		}else {
+			if((castlingRights & CastlingRights.WHITE_KING_SIDE) != 0) sb.append('K');
+			if((castlingRights & CastlingRights.WHITE_QUEEN_SIDE) != 0) sb.append('Q');
+			if((castlingRights & CastlingRights.BLACK_KING_SIDE) != 0) sb.append('k');
+			if((castlingRights & CastlingRights.BLACK_QUEEN_SIDE) != 0) sb.append('q');
+		}
+		sb.append(' ');
+
+		final Pawn enPassantPawn = board.getEnPassantPawn();
+		if(enPassantPawn == null) {
+			sb.append('-');
+		}else {
+			final int target = enPassantPawn.getPosition() + enPassantPawn.getAlliance().getOppositeDirection() *
+				BoardUtils.NUM_TILES_PER_ROW;
+			sb.append((char) ('a' + target % BoardUtils.NUM_TILES_PER_ROW))
+				.append((char) ('8' - target / BoardUtils.NUM_TILES_PER_ROW));
+		}
+		return sb.append(' ').append(board.getHalfmoveClock()).append(' ').append(board.getFullmoveNumber()).toString();
+	}
+
+	private static char toFenChar(final Piece piece) {
+		final char c;
+		switch(piece.getType()) {
+			case ROOK:
+				c = 'R';
+				break;
+			case KNIGHT:
+				c = 'N';
+				break;
+			case BISHOP:
+				c = 'B';
+				break;
+			case QUEEN:
+				c = 'Q';
+				break;
+			case KING:
+				c = 'K';
+				break;
+			default:
+				c = 'P';
+				break;
+		}
+		return piece.getAlliance().isWhite() ? c : Character.toLowerCase(c);
+	}
+
+	private static boolean isPieceChar(final char c) {
+		switch(Character.toLowerCase(c)) {
+			case 'p':
+			case 'n':
+			case 'b':
+			case 'r':
+			case 'q':
+			case 'k':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static Piece createPiece(final char c, final int position, final int castlingRights) {
+		final Alliance ally = Character.isUpperCase(c) ? Alliance.WHITE : Alliance.BLACK;
+		final boolean isWhite = ally.isWhite();
+		switch(Character.toLowerCase(c)) {
+			case 'p':
+				return new Pawn(ally, position, isWhite ? BoardUtils.SEVENTH_ROW[position] : BoardUtils.SECOND_ROW[position]);
+			case 'n':
+				return new Knight(ally, position, isInitialSquare(ally, Piece.Type.KNIGHT, position));
+			case 'b':
+				return new Bishop(ally, position, isInitialSquare(ally, Piece.Type.BISHOP, position));
+			case 'q':
+				return new Queen(ally, position, isInitialSquare(ally, Piece.Type.QUEEN, position));
+			case 'r':
+				return new Rook(ally, position, hasCastlingRight(castlingRights, position));
+			default:
+				final int rights = castlingRights & (isWhite ?
+					CastlingRights.WHITE_KING_SIDE | CastlingRights.WHITE_QUEEN_SIDE :
+					CastlingRights.BLACK_KING_SIDE | CastlingRights.BLACK_QUEEN_SIDE);
+				return new King(ally, position, rights != CastlingRights.NONE && position == (isWhite ? 60 : 4));
+		}
+	}
+
+	private static boolean hasCastlingRight(final int castlingRights, final int position) {
+		switch(position) {
+			case 63:
+				return (castlingRights & CastlingRights.WHITE_KING_SIDE) != 0;
+			case 56:
+				return (castlingRights & CastlingRights.WHITE_QUEEN_SIDE) != 0;
+			case 7:
+				return (castlingRights & CastlingRights.BLACK_KING_SIDE) != 0;
+			case 0:
+				return (castlingRights & CastlingRights.BLACK_QUEEN_SIDE) != 0;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean isInitialSquare(final Alliance ally, final Piece.Type type, final int position) {
+		final int square = (ally.isWhite() ? INITIAL_WHITE_SQUARES : INITIAL_BLACK_SQUARES)[type.ordinal()];
+		return position == square || position == (type == Piece.Type.QUEEN ? square : mirrorFile(square));
+	}
+
+	private static int mirrorFile(final int position) {
+		return position - position % BoardUtils.NUM_TILES_PER_ROW + 7 - position % BoardUtils.NUM_TILES_PER_ROW;
+	}
+
+	private static final class FenParser {
+
+		private final String fen;
+		private final char[] placement;
+		private int index;
+
+		FenParser(final String fen) {
+			this.fen = fen;
+			this.placement = new char[BoardUtils.NUM_TILES];
+		}
+
+		Board parse() {
+			parsePlacement();
+			skipSpaces();
+			final Alliance moveMaker = parseMoveMaker();
+			skipSpaces();
+			final int castlingRights = parseCastlingRights();
+			skipSpaces();
+			final int enPassantTarget = parseEnPassantTarget();
+			skipSpaces();
+			final int halfmoveClock = hasMore() ? parseNumber() : 0;
+			skipSpaces();
+			final int fullmoveNumber = hasMore() ? parseNumber() : 1;
+			skipSpaces();
+			if(hasMore()) {
+				throw error("Unexpected trailing characters");
+			}
+
+			final Piece[] mailbox = new Piece[BoardUtils.NUM_TILES];
+			for(int i=0;i<BoardUtils.NUM_TILES;i++) {
+				if(this.placement[i] != 0) {
+					mailbox[i] = createPiece(this.placement[i], i, castlingRights);
+				}
+			}
+			final Board.Builder builder = new Board.Builder(moveMaker).setPieces(mailbox)
+				.setHalfmoveClock(halfmoveClock).setFullmoveNumber(fullmoveNumber);
+			if(enPassantTarget >= 0) {
+				final int pawnPosition = enPassantTarget + moveMaker.getOppositeDirection() * BoardUtils.NUM_TILES_PER_ROW;
+				final Piece pawn = mailbox[pawnPosition];
+				if(pawn == null || pawn.getType() != Piece.Type.PAWN || pawn.getAlliance() == moveMaker) {
+					throw error("No pawn to capture en passant");
+				}
+				builder.setEnPassantPawn((Pawn) pawn);
+			}
+			return builder.build();
+		}
+
+		private void parsePlacement() {
+			int square = 0;
+			int rankEnd = BoardUtils.NUM_TILES_PER_ROW;
+			for(; hasMore(); this.index++) {
+				final char c = this.fen.charAt(this.index);
+				if(c == ' ') {
+					break;
+				}
+				if(c == '/') {
+					if(square != rankEnd || rankEnd == BoardUtils.NUM_TILES) {
+						throw error("Misplaced rank separator");
+					}
+					rankEnd += BoardUtils.NUM_TILES_PER_ROW;
+				}else if(c >= '1' && c <= '8') {
+					square += c - '0';
+				}else if(isPieceChar(c)) {
+					if(square < rankEnd) this.placement[square] = c;
+					square++;
+				}else {
+					throw error("Unexpected character '" + c + "' in piece placement");
+				}
+				if(square > rankEnd) {
+					throw error("Too many squares in rank");
+				}
+			}
+			if(square != BoardUtils.NUM_TILES) {
+				throw error("Piece placement does not cover the whole board");
+			}
+		}
+
+		private Alliance parseMoveMaker() {
+			final char c = hasMore() ? this.fen.charAt(this.index++) : 0;
+			if(c == 'w') return Alliance.WHITE;
+			if(c == 'b') return Alliance.BLACK;
+			throw error("Side to move must be 'w' or 'b'");
+		}
+
+		private int parseCastlingRights() {
+			int rights = CastlingRights.NONE;
+			if(hasMore() && this.fen.charAt(this.index) == '-') {
+				this.index++;
+				return rights;
+			}
+			for(; hasMore() && this.fen.charAt(this.index) != ' '; this.index++) {
+				switch(this.fen.charAt(this.index)) {
+					case 'K':
+						rights |= CastlingRights.WHITE_KING_SIDE;
+						break;
+					case 'Q':
+						rights |= CastlingRights.WHITE_QUEEN_SIDE;
+						break;
+					case 'k':
+						rights |= CastlingRights.BLACK_KING_SIDE;
+						break;
+					case 'q':
+						rights |= CastlingRights.BLACK_QUEEN_SIDE;
+						break;
+					default:
+						throw error("Unexpected castling right '" + this.fen.charAt(this.index) + "'");
+				}
+			}
+			return rights;
+		}
+
+		private int parseEnPassantTarget() {
+			if(!hasMore()) {
+				return -1;
+			}
+			if(this.fen.charAt(this.index) == '-') {
+				this.index++;
+				return -1;
+			}
+			if(this.index + 1 >= this.fen.length()) {
+				throw error("Truncated en passant square");
+			}
+			final char file = this.fen.charAt(this.index++);
+			final char rank = this.fen.charAt(this.index++);
+			if(file < 'a' || file > 'h' || (rank != '3' && rank != '6')) {
+				throw error("Invalid en passant square");
+			}
+			return ('8' - rank) * BoardUtils.NUM_TILES_PER_ROW + (file - 'a');
+		}
+
+		private int parseNumber() {
+			int value = 0;
+			final int start = this.index;
+			for(; hasMore() && this.fen.charAt(this.index) != ' '; this.index++) {
+				final char c = this.fen.charAt(this.index);
+				if(c < '0' || c > '9') {
+					throw error("Invalid move counter");
+				}
+				value = value * 10 + (c - '0');
+			}
+			if(this.index == start) {
+				throw error("Missing move counter");
+			}
+			return value;
+		}
+
+		private boolean hasMore() {
+			return this.index < this.fen.length();
+		}
+
+		private void skipSpaces() {
+			while(hasMore() && this.fen.charAt(this.index) == ' ') {
+				this.index++;
+			}
+		}
+
+		private RuntimeException error(final String message) {
+			return new RuntimeException(String.format("Invalid FEN \"%s\": %s at index %d!", this.fen, message,
+					this.index));
+		}
+
+	}
+
+}
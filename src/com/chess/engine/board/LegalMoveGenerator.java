@@ -0,0 +1,259 @@
+package com.chess.engine.board;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.chess.engine.move.EncodedMove;
+import com.chess.engine.move.Move;
+import com.chess.engine.move.MoveBuffer;
+import com.chess.engine.move.Move.PawnEnPassantAttackMove;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.Alliance;
+
+public final class LegalMoveGenerator {
+
+	private static final Piece.Type[] PROMOTION_TYPES = {
+		Piece.Type.QUEEN, Piece.Type.ROOK, Piece.Type.BISHOP, Piece.Type.KNIGHT
+	};
+
+	private LegalMoveGenerator() {
+		throw new RuntimeException("You cannot instantiate me!");
+	}
+
+	public static Collection<Move> calculateLegalMoves(final Board board, final Alliance ally) {
+		final long kings = board.getPieces(ally, Piece.Type.KING);
+		if(kings == BitBoard.EMPTY) {
+			throw new RuntimeException(String.format("Illegal state: No king found for %s player!", ally));
+		}
+		final Alliance opponent = ally.getOpposite();
+		final int kingPosition = BitBoard.firstSquare(kings);
+		final long occupancy = board.getOccupancy();
+		final long checkers = board.calculateAttackers(kingPosition, opponent, occupancy);
+		final long evasionMask = calculateEvasionMask(kingPosition, checkers);
+		final long pinned = calculatePinnedPieces(board, ally, kingPosition, occupancy);
+		final long kinglessOccupancy = occupancy & ~kings;
+
+		final List<Move> legalMoves = new ArrayList<Move>(MoveBuffer.MAX_MOVES);
+		for(final Piece piece : ally.isWhite() ? board.getWhiteActivePieces() : board.getBlackActivePieces()) {
+			final boolean isKing = piece.getType().isKing();
+			if(!isKing && evasionMask == BitBoard.EMPTY) continue;
+
+			final int first = legalMoves.size();
+			piece.calculateLegalMoves(board, legalMoves);
+			final long pinMask = BitBoard.isSet(pinned, piece.getPosition()) ?
+				AttackTables.line(kingPosition, piece.getPosition()) : BitBoard.FULL;
+			int kept = first;
+			for(int i = first; i < legalMoves.size(); i++) {
+				final Move move = legalMoves.get(i);
+				final boolean isLegal;
+				if(isKing) {
+					isLegal = board.calculateAttackers(move.getDestination(), opponent, kinglessOccupancy) == BitBoard.EMPTY;
+				}else if(move instanceof PawnEnPassantAttackMove) {
+					isLegal = isEnPassantLegal(board, move.getPosition(), move.getDestination(),
+							move.getAttackedPiece().getPosition(), kingPosition, opponent, occupancy);
+				}else {
+					isLegal = BitBoard.isSet(evasionMask & pinMask, move.getDestination());
+				}
+				if(isLegal) {
+					legalMoves.set(kept++, move);
+				}
+			}
+			for(int i = legalMoves.size() - 1; i >= kept; i--) {
+				legalMoves.remove(i);
+			}
+		}
+		return Collections.unmodifiableCollection(legalMoves);
+	}
+
+	public static int generateMoves(final Board board, final int[] moves, final int start) {
+		return generateMoves(board, moves, start, false);
+	}
+
+	public static int generateTacticalMoves(final Board board, final int[] moves, final int start) {
+		return generateMoves(board, moves, start, true);
+	}
+
+	private static int generateMoves(final Board board, final int[] moves, final int start, final boolean tacticalOnly) {
+		final Alliance ally = board.getMoveMaker();
+		final Alliance opponent = ally.getOpposite();
+		final long kings = board.getPieces(ally, Piece.Type.KING);
+		if(kings == BitBoard.EMPTY) {
+			throw new RuntimeException(String.format("Illegal state: No king found for %s player!", ally));
+		}
+		final int kingPosition = BitBoard.firstSquare(kings);
+		final long occupancy = board.getOccupancy();
+		final long own = board.getOccupancy(ally);
+		final long enemy = board.getOccupancy(opponent);
+		final long checkers = board.calculateAttackers(kingPosition, opponent, occupancy);
+		final long targetMask = tacticalOnly ? enemy : ~own;
+		int count = start;
+
+		final long kinglessOccupancy = occupancy & ~kings;
+		for(long targets = AttackTables.kingAttacks(kingPosition) & targetMask; targets != BitBoard.EMPTY;
+				targets = BitBoard.clearFirstSquare(targets)) {
+			final int destination = BitBoard.firstSquare(targets);
+			if(board.calculateAttackers(destination, opponent, kinglessOccupancy) == BitBoard.EMPTY) {
+				moves[count++] = encode(board, kingPosition, destination, enemy);
+			}
+		}
+		final long evasionMask = calculateEvasionMask(kingPosition, checkers);
+		if(evasionMask == BitBoard.EMPTY) {
+			return count - start;
+		}
+		if(checkers == BitBoard.EMPTY && !tacticalOnly) {
+			count = generateCastles(board, moves, count, ally, occupancy);
+		}
+
+		final long pinned = calculatePinnedPieces(board, ally, kingPosition, occupancy);
+		for(long pieces = own & ~kings & ~board.getPieces(ally, Piece.Type.PAWN); pieces != BitBoard.EMPTY;
+				pieces = BitBoard.clearFirstSquare(pieces)) {
+			final int position = BitBoard.firstSquare(pieces);
+			final long pinMask = BitBoard.isSet(pinned, position) ? AttackTables.line(kingPosition, position) : BitBoard.FULL;
+			final long attacks;
+			switch(board.getPiece(position).getType()) {
+				case KNIGHT:
+					attacks = AttackTables.knightAttacks(position);
+					break;
+				case BISHOP:
+					attacks = AttackTables.bishopAttacks(position, occupancy);
+					break;
+				case ROOK:
+					attacks = AttackTables.rookAttacks(position, occupancy);
+					break;
+				default:
+					attacks = AttackTables.queenAttacks(position, occupancy);
+					break;
+			}
+			for(long targets = attacks & targetMask & evasionMask & pinMask; targets != BitBoard.EMPTY;
+					targets = BitBoard.clearFirstSquare(targets)) {
+				moves[count++] = encode(board, position, BitBoard.firstSquare(targets), enemy);
+			}
+		}
+		return generatePawnMoves(board, moves, count, ally, kingPosition, evasionMask, pinned, tacticalOnly) - start;
+	}
+
+	private static int generatePawnMoves(final Board board, final int[] moves, int count, final Alliance ally,
+			final int kingPosition, final long evasionMask, final long pinned, final boolean tacticalOnly) {
+		final Alliance opponent = ally.getOpposite();
+		final long occupancy = board.getOccupancy();
+		final long enemy = board.getOccupancy(opponent);
+		final int forward = ally.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+		final Pawn enPassantPawn = board.getEnPassantPawn();
+		final int enPassantSquare = enPassantPawn == null ? -1 : enPassantPawn.getPosition() + forward;
+		for(long pawns = board.getPieces(ally, Piece.Type.PAWN); pawns != BitBoard.EMPTY;
+				pawns = BitBoard.clearFirstSquare(pawns)) {
+			final int position = BitBoard.firstSquare(pawns);
+			final long legalMask = evasionMask &
+				(BitBoard.isSet(pinned, position) ? AttackTables.line(kingPosition, position) : BitBoard.FULL);
+			final int destination = position + forward;
+			if(!BitBoard.isSet(occupancy, destination)) {
+				if(BitBoard.isSet(legalMask, destination)) {
+					if(ally.isPawnPromotionSquare(destination)) {
+						count = addPromotions(moves, count, position, destination, null);
+					}else if(!tacticalOnly) {
+						moves[count++] = EncodedMove.create(position, destination, EncodedMove.QUIET);
+					}
+				}
+				final int jump = destination + forward;
+				if(!tacticalOnly && board.getPiece(position).isFirstMove() &&
+						(ally.isWhite() ? BoardUtils.SEVENTH_ROW[position] : BoardUtils.SECOND_ROW[position]) &&
+						!BitBoard.isSet(occupancy, jump) && BitBoard.isSet(legalMask, jump)) {
+					moves[count++] = EncodedMove.create(position, jump, EncodedMove.PAWN_JUMP);
+				}
+			}
+			final long attacks = AttackTables.pawnAttacks(ally, position);
+			for(long targets = attacks & enemy & legalMask; targets != BitBoard.EMPTY;
+					targets = BitBoard.clearFirstSquare(targets)) {
+				final int target = BitBoard.firstSquare(targets);
+				final Piece.Type capturedType = board.getPiece(target).getType();
+				if(ally.isPawnPromotionSquare(target)) {
+					count = addPromotions(moves, count, position, target, capturedType);
+				}else {
+					moves[count++] = EncodedMove.create(position, target, EncodedMove.CAPTURE, capturedType);
+				}
+			}
+			if(enPassantSquare >= 0 && BitBoard.isSet(attacks, enPassantSquare) &&
+					isEnPassantLegal(board, position, enPassantSquare, enPassantPawn.getPosition(), kingPosition,
+						opponent, occupancy)) {
+				moves[count++] = EncodedMove.create(position, enPassantSquare, EncodedMove.EN_PASSANT, Piece.Type.PAWN);
+			}
+		}
+		return count;
+	}
+
+	private static int generateCastles(final Board board, final int[] moves, int count, final Alliance ally,
+			final long occupancy) {
+		final int rights = board.getCastlingRights();
+		final int kingSide = ally.isWhite() ? CastlingRights.WHITE_KING_SIDE : CastlingRights.BLACK_KING_SIDE;
+		final int queenSide = ally.isWhite() ? CastlingRights.WHITE_QUEEN_SIDE : CastlingRights.BLACK_QUEEN_SIDE;
+		final int king = ally.isWhite() ? 60 : 4;
+		final Alliance opponent = ally.getOpposite();
+		if((rights & kingSide) != 0 &&
+				!BitBoard.isSet(occupancy, king + 1) && !BitBoard.isSet(occupancy, king + 2) &&
+				!board.isSquareAttacked(king + 1, opponent) && !board.isSquareAttacked(king + 2, opponent)) {
+			moves[count++] = EncodedMove.create(king, king + 2, EncodedMove.KING_SIDE_CASTLE);
+		}
+		if((rights & queenSide) != 0 &&
+				!BitBoard.isSet(occupancy, king - 1) && !BitBoard.isSet(occupancy, king - 2) &&
+				!BitBoard.isSet(occupancy, king - 3) &&
+				!board.isSquareAttacked(king - 1, opponent) && !board.isSquareAttacked(king - 2, opponent)) {
+			moves[count++] = EncodedMove.create(king, king - 2, EncodedMove.QUEEN_SIDE_CASTLE);
+		}
+		return count;
+	}
+
+	private static int addPromotions(final int[] moves, int count, final int position, final int destination,
+			final Piece.Type capturedType) {
+		for(final Piece.Type type : PROMOTION_TYPES) {
+			moves[count++] = EncodedMove.createPromotion(position, destination, type, capturedType);
+		}
+		return count;
+	}
+
+	private static int encode(final Board board, final int position, final int destination, final long enemy) {
+		if(BitBoard.isSet(enemy, destination)) {
+			return EncodedMove.create(position, destination, EncodedMove.CAPTURE, board.getPiece(destination).getType());
+		}
+		return EncodedMove.create(position, destination, EncodedMove.QUIET);
+	}
+
+	private static long calculateEvasionMask(final int kingPosition, final long checkers) {
+		if(checkers == BitBoard.EMPTY) {
+			return BitBoard.FULL;
+		}
+		if(BitBoard.count(checkers) > 1) {
+			return BitBoard.EMPTY;
+		}
+		return checkers | AttackTables.between(kingPosition, BitBoard.firstSquare(checkers));
+	}
+
+	private static long calculatePinnedPieces(final Board board, final Alliance ally, final int kingPosition,
+			final long occupancy) {
+		final Alliance opponent = ally.getOpposite();
+		final long queens = board.getPieces(opponent, Piece.Type.QUEEN);
+		long snipers = (AttackTables.rookAttacks(kingPosition, BitBoard.EMPTY) &
+				(board.getPieces(opponent, Piece.Type.ROOK) | queens)) |
+			(AttackTables.bishopAttacks(kingPosition, BitBoard.EMPTY) &
+				(board.getPieces(opponent, Piece.Type.BISHOP) | queens));
+		long pinned = BitBoard.EMPTY;
+		for(; snipers != BitBoard.EMPTY; snipers = BitBoard.clearFirstSquare(snipers)) {
+			final long blockers = AttackTables.between(kingPosition, BitBoard.firstSquare(snipers)) & occupancy;
+			if(BitBoard.count(blockers) == 1) {
+				pinned |= blockers & board.getOccupancy(ally);
+			}
+		}
+		return pinned;
+	}
+
+	private static boolean isEnPassantLegal(final Board board, final int position, final int destination,
+			final int capturedPosition, final int kingPosition, final Alliance opponent, final long occupancy) {
+		final long captured = BitBoard.squareMask(capturedPosition);
+		final long occupancyAfter = (occupancy & ~BitBoard.squareMask(position) & ~captured) |
+			BitBoard.squareMask(destination);
+		return (board.calculateAttackers(kingPosition, opponent, occupancyAfter) & ~captured) == BitBoard.EMPTY;
+	}
+
+}
@@ -0,0 +1,179 @@
+package com.chess.engine.board;
+
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.Alliance;
+
+public final class PieceSquareTables {
+
+	public static final int MAX_PHASE = 24;
+
+	private static final int[] MIDDLEGAME_VALUES = { 500, 300, 300, 900, 0, 100 };
+	private static final int[] ENDGAME_VALUES = { 520, 290, 310, 940, 0, 120 };
+	private static final int[] PHASE_WEIGHTS = { 2, 1, 1, 4, 0, 0 };
+
+	private static final int[] ROOK_TABLE = {
+		  0,   0,   0,   0,   0,   0,   0,   0,
+		  5,  10,  10,  10,  10,  10,  10,   5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		  0,   0,   0,   5,   5,   0,   0,   0
+	};
+
+	private static final int[] KNIGHT_TABLE = {
+		-50, -40, -30, -30, -30, -30, -40, -50,
+		-40, -20,   0,   0,   0,   0, -20, -40,
+		-30,   0,  10,  15,  15,  10,   0, -30,
+		-30,   5,  15,  20,  20,  15,   5, -30,
+		-30,   0,  15,  20,  20,  15,   0, -30,
+		-30,   5,  10,  15,  15,  10,   5, -30,
+		-40, -20,   0,   5,   5,   0, -20, -40,
+		-50, -40, -30, -30, -30, -30, -40, -50
+	};
+
+	private static final int[] BISHOP_TABLE = {
+		-20, -10, -10, -10, -10, -10, -10, -20,
+		-10,   0,   0,   0,   0,   0,   0, -10,
+		-10,   0,   5,  10,  10,   5,   0, -10,
+		-10,   5,   5,  10,  10,   5,   5, -10,
+		-10,   0,  10,  10,  10,  10,   0, -10,
+		-10,  10,  10,  10,  10,  10,  10, -10,
+		-10,   5,   0,   0,   0,   0,   5, -10,
+		-20, -10, -10, -10, -10, -10, -10, -20
+	};
+
+	private static final int[] QUEEN_TABLE = {
+		-20, -10, -10,  -5,  -5, -10, -10, -20,
+		-10,   0,   0,   0,   0,   0,   0, -10,
+		-10,   0,   5,   5,   5,   5,   0, -10,
+		 -5,   0,   5,   5,   5,   5,   0,  -5,
+		  0,   0,   5,   5,   5,   5,   0,  -5,
+		-10,   5,   5,   5,   5,   5,   0, -10,
+		-10,   0,   5,   0,   0,   0,   0, -10,
+		-20, -10, -10,  -5,  -5, -10, -10, -20
+	};
+
+	private static final int[] KING_MIDDLEGAME_TABLE = {
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-20, -30, -30, -40, -40, -30, -30, -20,
+		-10, -20, -20, -20, -20, -20, -20, -10,
+		 20,  20,   0,   0,   0,   0,  20,  20,
+		 20,  30,  10,   0,   0,  10,  30,  20
+	};
+
+	private static final int[] KING_ENDGAME_TABLE = {
+		-50, -40, -30, -20, -20, -30, -40, -50,
+		-30, -20, -10,   0,   0, -10, -20, -30,
+		-30, -10,  20,  30,  30,  20, -10, -30,
+		-30, -10,  30,  40,  40,  30, -10, -30,
+		-30, -10,  30,  40,  40,  30, -10, -30,
+		-30, -10,  20,  30,  30,  20, -10, -30,
+		-30, -30,   0,   0,   0,   0, -30, -30,
+		-50, -30, -30, -30, -30, -30, -30, -50
+	};
+
+	private static final int[] PAWN_MIDDLEGAME_TABLE = {
+		  0,   0,   0,   0,   0,   0,   0,   0,
+		 50,  50,  50,  50,  50,  50,  50,  50,
+		 10,  10,  20,  30,  30,  20,  10,  10,
+		  5,   5,  10,  25,  25,  10,   5,   5,
+		  0,   0,   0,  20,  20,   0,   0,   0,
+		  5,  -5, -10,   0,   0, -10,  -5,   5,
+		  5,  10,  10, -20, -20,  10,  10,   5,
+		  0,   0,   0,   0,   0,   0,   0,   0
+	};
+
+	private static final int[] PAWN_ENDGAME_TABLE = {
+		  0,   0,   0,   0,   0,   0,   0,   0,
+		 80,  80,  80,  80,  80,  80,  80,  80,
+		 50,  50,  50,  50,  50,  50,  50,  50,
+		 30,  30,  30,  30,  30,  30,  30,  30,
+		 15,  15,  15,  15,  15,  15,  15,  15,
+		  5,   5,   5,   5,   5,   5,   5,   5,
+		  0,   0,   0,   0,   0,   0,   0,   0,
+		  0,   0,   0,   0,   0,   0,   0,   0
+	};
+
+	private static final int[][] MIDDLEGAME_TABLES = {
+		ROOK_TABLE, KNIGHT_TABLE, BISHOP_TABLE, QUEEN_TABLE, KING_MIDDLEGAME_TABLE, PAWN_MIDDLEGAME_TABLE
+	};
+
+	private static final int[][] ENDGAME_TABLES = {
+		ROOK_TABLE, KNIGHT_TABLE, BISHOP_TABLE, QUEEN_TABLE, KING_ENDGAME_TABLE, PAWN_ENDGAME_TABLE
+	};
+
+	private static final int[][] SCORES = initScores();
+
+	private PieceSquareTables() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static int score(final Piece piece) {
+		return SCORES[BitBoard.maskIndex(piece.getAlliance(), piece.getType())][piece.getPosition()];
+	}
+
+	public static int score(final int maskIndex, final int position) {
+		return SCORES[maskIndex][position];
+	}
+
+	public static int calculateScore(final Board board) {
+		int score = 0;
+		for(long occupancy = board.getOccupancy(); occupancy != BitBoard.EMPTY;
+				occupancy = BitBoard.clearFirstSquare(occupancy)) {
+			score += score(board.getPiece(BitBoard.firstSquare(occupancy)));
+		}
+		return score;
+	}
+
+	public static int calculatePhase(final Board board) {
+		int phase = 0;
+		for(final Piece.Type type : Piece.Type.values()) {
+			phase += PHASE_WEIGHTS[type.ordinal()] *
+				(BitBoard.count(board.getPieces(Alliance.WHITE, type)) + BitBoard.count(board.getPieces(Alliance.BLACK, type)));
+		}
+		return phase;
+	}
+
+	public static int pack(final int middlegame, final int endgame) {
+		return (endgame << 16) + middlegame;
+	}
+
+	public static int middlegame(final int score) {
+		return (short) score;
+	}
+
+	public static int endgame(final int score) {
+		return (short) ((score + 0x8000) >> 16);
+	}
+
+	public static int phaseWeight(final Piece.Type type) {
+		return PHASE_WEIGHTS[type.ordinal()];
+	}
+
+	public static int taper(final int score, final int phase) {
+		final int clampedPhase = Math.min(phase, MAX_PHASE);
+		return (middlegame(score) * clampedPhase + endgame(score) * (MAX_PHASE - clampedPhase)) / MAX_PHASE;
+	}
+
+	private static int[][] initScores() {
+		final int[][] scores = new int[BitBoard.NUM_PIECE_MASKS][BoardUtils.NUM_TILES];
+		for(final Alliance ally : Alliance.values()) {
+			for(final Piece.Type type : Piece.Type.values()) {
+				final int t = type.ordinal();
+				for(int position = 0; position < BoardUtils.NUM_TILES; position++) {
+					final int square = ally.isWhite() ? position : position ^ 56;
+					final int score = pack(MIDDLEGAME_VALUES[t] + MIDDLEGAME_TABLES[t][square],
+							ENDGAME_VALUES[t] + ENDGAME_TABLES[t][square]);
+					scores[BitBoard.maskIndex(ally, type)][position] = ally.isWhite() ? score : -score;
+				}
+			}
+		}
+		return scores;
+	}
+
+}
@@ -0,0 +1,341 @@
+package com.chess.engine.board;
+
+import com.chess.engine.move.EncodedMove;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.Alliance;
+
+public final class SearchBoard {
+
+	public static final int MAX_PLY = 1024;
+	public static final int NO_PIECE = -1;
+	public static final int NO_SQUARE = -1;
+
+	private static final int WHITE = Alliance.WHITE.ordinal();
+	private static final int BLACK = Alliance.BLACK.ordinal();
+
+	private static final int ROOK = Piece.Type.ROOK.ordinal();
+	private static final int KNIGHT = Piece.Type.KNIGHT.ordinal();
+	private static final int BISHOP = Piece.Type.BISHOP.ordinal();
+	private static final int QUEEN = Piece.Type.QUEEN.ordinal();
+	private static final int KING = Piece.Type.KING.ordinal();
+	private static final int PAWN = Piece.Type.PAWN.ordinal();
+
+	private static final Piece.Type[] PROMOTION_TYPES = {
+		Piece.Type.QUEEN, Piece.Type.ROOK, Piece.Type.BISHOP, Piece.Type.KNIGHT
+	};
+
+	private final long[] pieceMasks;
+	private final long[] occupancies;
+	private final int[] mailbox;
+
+	private int moveMaker;
+	private int castlingRights;
+	private int enPassantSquare;
+	private int ply;
+	private int pieceSquareScore;
+	private int phase;
+
+	private final int[] moveStack;
+	private final int[] capturedStack;
+	private final int[] castlingRightsStack;
+	private final int[] enPassantStack;
+
+	public SearchBoard(final Board board) {
+		this.pieceMasks = new long[BitBoard.NUM_PIECE_MASKS];
+		this.occupancies = new long[2];
+		this.mailbox = new int[BoardUtils.NUM_TILES];
+		this.moveStack = new int[MAX_PLY];
+		this.capturedStack = new int[MAX_PLY];
+		this.castlingRightsStack = new int[MAX_PLY];
+		this.enPassantStack = new int[MAX_PLY];
+
+		for(int position = 0; position < BoardUtils.NUM_TILES; position++) {
+			final Piece piece = board.getPiece(position);
+			this.mailbox[position] = NO_PIECE;
+			if(piece != null) {
+				putPiece(position, BitBoard.maskIndex(piece.getAlliance(), piece.getType()));
+			}
+		}
+		this.moveMaker = board.getCurrentPlayer().getAlliance().ordinal();
+		this.castlingRights = board.getCastlingRights();
+		final Pawn enPassantPawn = board.getEnPassantPawn();
+		this.enPassantSquare = enPassantPawn == null ? NO_SQUARE :
+			enPassantPawn.getPosition() - enPassantPawn.getAlliance().getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+	}
+
+	public Alliance getMoveMaker() {
+		return this.moveMaker == WHITE ? Alliance.WHITE : Alliance.BLACK;
+	}
+
+	public int getPiece(final int position) {
+		return this.mailbox[position];
+	}
+
+	public long getPieces(final Alliance ally, final Piece.Type type) {
+		return this.pieceMasks[BitBoard.maskIndex(ally, type)];
+	}
+
+	public long getOccupancy(final Alliance ally) {
+		return this.occupancies[ally.ordinal()];
+	}
+
+	public long getOccupancy() {
+		return this.occupancies[WHITE] | this.occupancies[BLACK];
+	}
+
+	public int getCastlingRights() {
+		return this.castlingRights;
+	}
+
+	public int getEnPassantSquare() {
+		return this.enPassantSquare;
+	}
+
+	public int getPieceSquareScore() {
+		return this.pieceSquareScore;
+	}
+
+	public int getPhase() {
+		return this.phase;
+	}
+
+	public int getPly() {
+		return this.ply;
+	}
+
+	public boolean isInCheck() {
+		return isAttacked(kingSquare(this.moveMaker), this.moveMaker ^ 1);
+	}
+
+	public boolean isSquareAttacked(final int position, final Alliance attacker) {
+		return isAttacked(position, attacker.ordinal());
+	}
+
+	public int generateMoves(final int[] moves, final int start) {
+		final int us = this.moveMaker;
+		final int them = us ^ 1;
+		final long own = this.occupancies[us];
+		final long enemy = this.occupancies[them];
+		final long targets = ~own;
+		int count = start;
+
+		count = generatePawnMoves(moves, count, us, enemy);
+		for(long pieces = this.pieceMasks[us * BitBoard.NUM_PIECE_TYPES + KNIGHT]; pieces != BitBoard.EMPTY; pieces = BitBoard.clearFirstSquare(pieces)) {
+			final int position = BitBoard.firstSquare(pieces);
+			count = addMoves(moves, count, position, AttackTables.knightAttacks(position) & targets, enemy);
+		}
+		final long occupancy = own | enemy;
+		for(long pieces = this.pieceMasks[us * BitBoard.NUM_PIECE_TYPES + BISHOP]; pieces != BitBoard.EMPTY; pieces = BitBoard.clearFirstSquare(pieces)) {
+			final int position = BitBoard.firstSquare(pieces);
+			count = addMoves(moves, count, position, AttackTables.bishopAttacks(position, occupancy) & targets, enemy);
+		}
+		for(long pieces = this.pieceMasks[us * BitBoard.NUM_PIECE_TYPES + ROOK]; pieces != BitBoard.EMPTY; pieces = BitBoard.clearFirstSquare(pieces)) {
+			final int position = BitBoard.firstSquare(pieces);
+			count = addMoves(moves, count, position, AttackTables.rookAttacks(position, occupancy) & targets, enemy);
+		}
+		for(long pieces = this.pieceMasks[us * BitBoard.NUM_PIECE_TYPES + QUEEN]; pieces != BitBoard.EMPTY; pieces = BitBoard.clearFirstSquare(pieces)) {
+			final int position = BitBoard.firstSquare(pieces);
+			count = addMoves(moves, count, position, AttackTables.queenAttacks(position, occupancy) & targets, enemy);
+		}
+		final int king = kingSquare(us);
+		count = addMoves(moves, count, king, AttackTables.kingAttacks(king) & targets, enemy);
+		return generateCastles(moves, count, us, occupancy);
+	}
+
+	public boolean makeMove(final int move) {
+		final int us = this.moveMaker;
+		final int position = EncodedMove.getPosition(move);
+		final int destination = EncodedMove.getDestination(move);
+		final int kind = EncodedMove.getKind(move);
+		final int piece = this.mailbox[position];
+
+		if(this.ply == MAX_PLY) {
+			throw new RuntimeException("Search board undo stack overflow!");
+		}
+		this.moveStack[this.ply] = move;
+		this.castlingRightsStack[this.ply] = this.castlingRights;
+		this.enPassantStack[this.ply] = this.enPassantSquare;
+
+		int captured = NO_PIECE;
+		if(kind == EncodedMove.EN_PASSANT) {
+			final int capturedPosition = enPassantVictim(destination, us);
+			captured = removePiece(capturedPosition);
+		}else if(EncodedMove.isCapture(move)) {
+			captured = removePiece(destination);
+		}
+		this.capturedStack[this.ply++] = captured;
+
+		removePiece(position);
+		if(EncodedMove.isPromotion(move)) {
+			putPiece(destination, BitBoard.maskIndex(getMoveMaker(), EncodedMove.getPromotionType(move)));
+		}else {
+			putPiece(destination, piece);
+		}
+		if(kind == EncodedMove.KING_SIDE_CASTLE) {
+			putPiece(destination - 1, removePiece(destination + 1));
+		}else if(kind == EncodedMove.QUEEN_SIDE_CASTLE) {
+			putPiece(destination + 1, removePiece(destination - 2));
+		}
+
+		this.enPassantSquare = kind == EncodedMove.PAWN_JUMP ? (position + destination) / 2 : NO_SQUARE;
+		this.castlingRights = CastlingRights.update(this.castlingRights, position, destination);
+		this.moveMaker = us ^ 1;
+
+		if(isAttacked(kingSquare(us), us ^ 1)) {
+			unmakeMove();
+			return false;
+		}
+		return true;
+	}
+
+	public void unmakeMove() {
+		final int move = this.moveStack[--this.ply];
+		final int captured = this.capturedStack[this.ply];
+		this.castlingRights = this.castlingRightsStack[this.ply];
+		this.enPassantSquare = this.enPassantStack[this.ply];
+		this.moveMaker ^= 1;
+
+		final int us = this.moveMaker;
+		final int position = EncodedMove.getPosition(move);
+		final int destination = EncodedMove.getDestination(move);
+		final int kind = EncodedMove.getKind(move);
+
+		if(kind == EncodedMove.KING_SIDE_CASTLE) {
+			putPiece(destination + 1, removePiece(destination - 1));
+		}else if(kind == EncodedMove.QUEEN_SIDE_CASTLE) {
+			putPiece(destination - 2, removePiece(destination + 1));
+		}
+		final int piece = removePiece(destination);
+		putPiece(position, EncodedMove.isPromotion(move) ? us * BitBoard.NUM_PIECE_TYPES + PAWN : piece);
+		if(kind == EncodedMove.EN_PASSANT) {
+			putPiece(enPassantVictim(destination, us), captured);
+		}else if(captured != NO_PIECE) {
+			putPiece(destination, captured);
+		}
+	}
+
+	private int generatePawnMoves(final int[] moves, int count, final int us, final long enemy) {
+		final Alliance ally = getMoveMaker();
+		final int forward = ally.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+		final boolean[] startRow = us == WHITE ? BoardUtils.SEVENTH_ROW : BoardUtils.SECOND_ROW;
+		final long occupancy = getOccupancy();
+		for(long pawns = this.pieceMasks[us * BitBoard.NUM_PIECE_TYPES + PAWN]; pawns != BitBoard.EMPTY; pawns = BitBoard.clearFirstSquare(pawns)) {
+			final int position = BitBoard.firstSquare(pawns);
+			final int destination = position + forward;
+			if(!BitBoard.isSet(occupancy, destination)) {
+				if(isPromotionSquare(destination)) {
+					count = addPromotions(moves, count, position, destination, null);
+				}else {
+					moves[count++] = EncodedMove.create(position, destination, EncodedMove.QUIET);
+					if(startRow[position] && !BitBoard.isSet(occupancy, destination + forward)) {
+						moves[count++] = EncodedMove.create(position, destination + forward, EncodedMove.PAWN_JUMP);
+					}
+				}
+			}
+			final long attacks = AttackTables.pawnAttacks(ally, position);
+			for(long captures = attacks & enemy; captures != BitBoard.EMPTY; captures = BitBoard.clearFirstSquare(captures)) {
+				final int target = BitBoard.firstSquare(captures);
+				if(isPromotionSquare(target)) {
+					count = addPromotions(moves, count, position, target, BitBoard.typeOf(this.mailbox[target]));
+				}else {
+					moves[count++] = EncodedMove.create(position, target, EncodedMove.CAPTURE,
+						BitBoard.typeOf(this.mailbox[target]));
+				}
+			}
+			if(this.enPassantSquare != NO_SQUARE && BitBoard.isSet(attacks, this.enPassantSquare)) {
+				moves[count++] = EncodedMove.create(position, this.enPassantSquare, EncodedMove.EN_PASSANT, Piece.Type.PAWN);
+			}
+		}
+		return count;
+	}
+
+	private static int addPromotions(final int[] moves, int count, final int position, final int destination,
+			final Piece.Type capturedType) {
+		for(final Piece.Type type : PROMOTION_TYPES) {
+			moves[count++] = EncodedMove.createPromotion(position, destination, type, capturedType);
+		}
+		return count;
+	}
+
+	private int addMoves(final int[] moves, int count, final int position, final long destinations,
+			final long enemy) {
+		for(long targets = destinations; targets != BitBoard.EMPTY; targets = BitBoard.clearFirstSquare(targets)) {
+			final int destination = BitBoard.firstSquare(targets);
+			moves[count++] = BitBoard.isSet(enemy, destination) ?
+				EncodedMove.create(position, destination, EncodedMove.CAPTURE, BitBoard.typeOf(this.mailbox[destination])) :
+				EncodedMove.create(position, destination, EncodedMove.QUIET);
+		}
+		return count;
+	}
+
+	private int generateCastles(final int[] moves, int count, final int us, final long occupancy) {
+		final int kingSide = us == WHITE ? CastlingRights.WHITE_KING_SIDE : CastlingRights.BLACK_KING_SIDE;
+		final int queenSide = us == WHITE ? CastlingRights.WHITE_QUEEN_SIDE : CastlingRights.BLACK_QUEEN_SIDE;
+		if((this.castlingRights & (kingSide | queenSide)) == 0) {
+			return count;
+		}
+		final int king = us == WHITE ? 60 : 4;
+		final int them = us ^ 1;
+		if(isAttacked(king, them)) {
+			return count;
+		}
+		if((this.castlingRights & kingSide) != 0 &&
+				!BitBoard.isSet(occupancy, king + 1) && !BitBoard.isSet(occupancy, king + 2) &&
+				!isAttacked(king + 1, them) && !isAttacked(king + 2, them)) {
+			moves[count++] = EncodedMove.create(king, king + 2, EncodedMove.KING_SIDE_CASTLE);
+		}
+		if((this.castlingRights & queenSide) != 0 &&
+				!BitBoard.isSet(occupancy, king - 1) && !BitBoard.isSet(occupancy, king - 2) &&
+				!BitBoard.isSet(occupancy, king - 3) &&
+				!isAttacked(king - 1, them) && !isAttacked(king - 2, them)) {
+			moves[count++] = EncodedMove.create(king, king - 2, EncodedMove.QUEEN_SIDE_CASTLE);
+		}
+		return count;
+	}
+
+	private boolean isAttacked(final int position, final int attacker) {
+		final int base = attacker * BitBoard.NUM_PIECE_TYPES;
+		final Alliance defender = attacker == WHITE ? Alliance.BLACK : Alliance.WHITE;
+		if((AttackTables.pawnAttacks(defender, position) & this.pieceMasks[base + PAWN]) != 0) return true;
+		if((AttackTables.knightAttacks(position) & this.pieceMasks[base + KNIGHT]) != 0) return true;
+		if((AttackTables.kingAttacks(position) & this.pieceMasks[base + KING]) != 0) return true;
+		final long occupancy = getOccupancy();
+		final long queens = this.pieceMasks[base + QUEEN];
+		if((AttackTables.bishopAttacks(position, occupancy) & (this.pieceMasks[base + BISHOP] | queens)) != 0) return true;
+		return (AttackTables.rookAttacks(position, occupancy) & (this.pieceMasks[base + ROOK] | queens)) != 0;
+	}
+
+	private int kingSquare(final int ally) {
+		return BitBoard.firstSquare(this.pieceMasks[ally * BitBoard.NUM_PIECE_TYPES + KING]);
+	}
+
+	private static int enPassantVictim(final int destination, final int us) {
+		return destination + (us == WHITE ? BoardUtils.NUM_TILES_PER_ROW : -BoardUtils.NUM_TILES_PER_ROW);
+	}
+
+	private static boolean isPromotionSquare(final int position) {
+		return position < BoardUtils.NUM_TILES_PER_ROW || position >= BoardUtils.NUM_TILES - BoardUtils.NUM_TILES_PER_ROW;
+	}
+
+	private void putPiece(final int position, final int piece) {
+		final long mask = BitBoard.squareMask(position);
+		this.mailbox[position] = piece;
+		this.pieceMasks[piece] |= mask;
+		this.occupancies[piece / BitBoard.NUM_PIECE_TYPES] |= mask;
+		this.pieceSquareScore += PieceSquareTables.score(piece, position);
+		this.phase += PieceSquareTables.phaseWeight(BitBoard.typeOf(piece));
+	}
+
+	private int removePiece(final int position) {
+		final int piece = this.mailbox[position];
+		final long mask = ~BitBoard.squareMask(position);
+		this.mailbox[position] = NO_PIECE;
+		this.pieceMasks[piece] &= mask;
+		this.occupancies[piece / BitBoard.NUM_PIECE_TYPES] &= mask;
+		this.pieceSquareScore -= PieceSquareTables.score(piece, position);
+		this.phase -= PieceSquareTables.phaseWeight(BitBoard.typeOf(piece));
+		return piece;
+	}
+
+}
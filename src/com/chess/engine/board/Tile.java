@@ -1,21 +1,17 @@
 package com.chess.engine.board;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-
 import com.chess.engine.pieces.Piece;
 
 public abstract class Tile {
 
-	private static final Map<Integer,EmptyTile> EMPTY_TILES_CACHE = createAllEmptyTiles();
+	private static final EmptyTile[] EMPTY_TILES_CACHE = createAllEmptyTiles();
 	
-	private static Map<Integer,EmptyTile> createAllEmptyTiles() {
-		final Map<Integer,EmptyTile> emptyTiles = new HashMap<Integer,EmptyTile>();
+	private static EmptyTile[] createAllEmptyTiles() {
+		final EmptyTile[] emptyTiles = new EmptyTile[BoardUtils.NUM_TILES];
 		for(int i=0;i<BoardUtils.NUM_TILES;i++) {
-			emptyTiles.put(i, new EmptyTile(i));
+			emptyTiles[i] = new EmptyTile(i);
 		}
-		return Collections.unmodifiableMap(emptyTiles);
+		return emptyTiles;
 	}
 	
 	protected final int position;
@@ -29,7 +25,7 @@ public abstract class Tile {
 	}
 	
 	public static Tile createTile(final int position, final Piece piece) {
-		return piece != null ? new OccupiedTile(position, piece) : EMPTY_TILES_CACHE.get(position);
+		return piece != null ? new OccupiedTile(position, piece) : EMPTY_TILES_CACHE[position];
 	}
 	
 	public abstract boolean isOccupied();
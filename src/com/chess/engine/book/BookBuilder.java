@@ -0,0 +1,514 @@
+package com.chess.engine.book;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.book.PgnReader.PgnGame;
+import com.chess.engine.move.Move;
+
+public final class BookBuilder {
+
+	public static final int DEFAULT_MAX_PLY = 40;
+	public static final int DEFAULT_MIN_COUNT = 1;
+	public static final int DEFAULT_TABLE_ENTRIES = 1 << 21;
+
+	private static final int BATCH_SIZE = 256;
+	private static final int MAX_MERGE_FAN_IN = 64;
+	private static final int MAX_WEIGHT = 0xFFFF;
+	private static final int IO_BUFFER_SIZE = 1 << 16;
+	private static final List<PgnGame> END_OF_INPUT = Collections.emptyList();
+
+	private final int threads;
+	private final int maxPly;
+	private final int minCount;
+	private final int tableEntries;
+	private final Path tempDirectory;
+
+	public BookBuilder(final int threads, final int maxPly, final int minCount, final int tableEntries,
+			final Path tempDirectory) {
+		if(threads < 1) {
+			throw new RuntimeException(String.format("Invalid thread count: %d!", threads));
+		}
+		if(maxPly < 1) {
+			throw new RuntimeException(String.format("Invalid maximum ply: %d!", maxPly));
+		}
+		if(minCount < 1) {
+			throw new RuntimeException(String.format("Invalid minimum count: %d!", minCount));
+		}
+		if(tableEntries < threads) {
+			throw new RuntimeException(String.format("Invalid table size: %d!", tableEntries));
+		}
+		this.threads = threads;
+		this.maxPly = maxPly;
+		this.minCount = minCount;
+		this.tableEntries = tableEntries;
+		this.tempDirectory = tempDirectory;
+	}
+
+	public BookBuilder() {
+		this(Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_PLY, DEFAULT_MIN_COUNT, DEFAULT_TABLE_ENTRIES,
+				null);
+	}
+
+	public static void main(final String[] args) throws IOException {
+		int threads = Runtime.getRuntime().availableProcessors();
+		int maxPly = DEFAULT_MAX_PLY;
+		int minCount = DEFAULT_MIN_COUNT;
+		int tableEntries = DEFAULT_TABLE_ENTRIES;
+		Path tempDirectory = null;
+		final List<Path> paths = new ArrayList<Path>();
+		for(int i = 0; i < args.length; i++) {
+			if(args[i].equals("--threads")) {
+				threads = Integer.parseInt(args[++i]);
+			}else if(args[i].equals("--max-ply")) {
+				maxPly = Integer.parseInt(args[++i]);
+			}else if(args[i].equals("--min-count")) {
+				minCount = Integer.parseInt(args[++i]);
+			}else if(args[i].equals("--entries")) {
+				tableEntries = Integer.parseInt(args[++i]);
+			}else if(args[i].equals("--temp")) {
+				tempDirectory = Paths.get(args[++i]);
+			}else {
+				paths.add(Paths.get(args[i]));
+			}
+		}
+		if(paths.size() < 2) {
+			System.err.println("Usage: BookBuilder [--threads N] [--max-ply N] [--min-count N] [--entries N] " +
+					"[--temp DIR] <book.bin> <games.pgn[.gz]>...");
+			System.exit(1);
+		}
+		final BookBuilder builder = new BookBuilder(threads, maxPly, minCount, tableEntries, tempDirectory);
+		System.out.println(builder.build(paths.subList(1, paths.size()), paths.get(0)));
+	}
+
+	public BuildResult build(final List<Path> pgnFiles, final Path output) throws IOException {
+		final long start = System.currentTimeMillis();
+		final Path runDirectory = this.tempDirectory == null ? Files.createTempDirectory("book-runs") :
+			Files.createTempDirectory(this.tempDirectory, "book-runs");
+		final ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+		try {
+			final BlockingQueue<List<PgnGame>> queue = new ArrayBlockingQueue<List<PgnGame>>(2 * this.threads);
+			final List<Future<ReplayWorker>> futures = new ArrayList<Future<ReplayWorker>>(this.threads);
+			for(int i = 0; i < this.threads; i++) {
+				futures.add(executor.submit(new ReplayWorker(queue, runDirectory, this.tableEntries / this.threads)));
+			}
+			for(final Path pgnFile : pgnFiles) {
+				try(final PgnReader reader = openPgn(pgnFile)) {
+					List<PgnGame> batch = new ArrayList<PgnGame>(BATCH_SIZE);
+					for(PgnGame game = reader.nextGame(); game != null; game = reader.nextGame()) {
+						batch.add(game);
+						if(batch.size() == BATCH_SIZE) {
+							submit(queue, batch, futures);
+							batch = new ArrayList<PgnGame>(BATCH_SIZE);
+						}
+					}
+					if(!batch.isEmpty()) {
+						submit(queue, batch, futures);
+					}
+				}
+			}
+			for(int i = 0; i < this.threads; i++) {
+				submit(queue, END_OF_INPUT, futures);
+			}
+
+			long games = 0;
+			long rejectedGames = 0;
+			long positions = 0;
+			final List<Path> runs = new ArrayList<Path>();
+			for(final Future<ReplayWorker> future : futures) {
+				final ReplayWorker worker = await(future);
+				games += worker.games;
+				rejectedGames += worker.rejectedGames;
+				positions += worker.positions;
+				runs.addAll(worker.runs);
+			}
+			final int numRuns = runs.size();
+			final long entries = merge(runs, runDirectory, output);
+			return new BuildResult(games, rejectedGames, positions, numRuns, entries,
+					System.currentTimeMillis() - start);
+		}finally {
+			executor.shutdownNow();
+			deleteRuns(runDirectory);
+		}
+	}
+
+	private static PgnReader openPgn(final Path path) throws IOException {
+		InputStream in = new BufferedInputStream(Files.newInputStream(path), IO_BUFFER_SIZE);
+		if(path.getFileName().toString().endsWith(".gz")) {
+			in = new GZIPInputStream(in, IO_BUFFER_SIZE);
+		}
+		return new PgnReader(new InputStreamReader(in, StandardCharsets.ISO_8859_1));
+	}
+
+	private static void submit(final BlockingQueue<List<PgnGame>> queue, final List<PgnGame> batch,
+			final List<Future<ReplayWorker>> futures) {
+		try {
+			while(!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+				for(final Future<ReplayWorker> future : futures) {
+					if(future.isDone()) {
+						await(future);
+						throw new RuntimeException("Replay worker exited before the end of input!");
+					}
+				}
+			}
+		}catch(final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while reading games!", e);
+		}
+	}
+
+	private static ReplayWorker await(final Future<ReplayWorker> future) {
+		try {
+			return future.get();
+		}catch(final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while replaying games!", e);
+		}catch(final ExecutionException e) {
+			throw new RuntimeException("Failed to replay games!", e.getCause());
+		}
+	}
+
+	private long merge(final List<Path> runs, final Path runDirectory, final Path output) throws IOException {
+		List<Path> pending = runs;
+		while(pending.size() > MAX_MERGE_FAN_IN) {
+			final List<Path> merged = new ArrayList<Path>();
+			for(int i = 0; i < pending.size(); i += MAX_MERGE_FAN_IN) {
+				final List<Path> group = pending.subList(i, Math.min(i + MAX_MERGE_FAN_IN, pending.size()));
+				final Path run = Files.createTempFile(runDirectory, "merge", ".run");
+				try(final RunWriter writer = new RunWriter(run)) {
+					merge(group, writer);
+				}
+				for(final Path path : group) {
+					Files.delete(path);
+				}
+				merged.add(run);
+			}
+			pending = merged;
+		}
+		final BookWriter writer = new BookWriter(output, this.minCount);
+		try {
+			merge(pending, writer);
+		}finally {
+			writer.close();
+		}
+		return writer.entries;
+	}
+
+	private static void merge(final List<Path> runs, final RecordSink sink) throws IOException {
+		final PriorityQueue<RunReader> queue = new PriorityQueue<RunReader>(Math.max(1, runs.size()),
+			(r1, r2) -> MoveCountTable.compare(r1.key, r1.move, r2.key, r2.move));
+		try {
+			for(final Path run : runs) {
+				final RunReader reader = new RunReader(run);
+				if(reader.next()) {
+					queue.add(reader);
+				}else {
+					reader.close();
+				}
+			}
+			while(!queue.isEmpty()) {
+				final RunReader first = queue.poll();
+				final long key = first.key;
+				final int move = first.move;
+				long count = first.count;
+				advance(first, queue);
+				while(!queue.isEmpty() && queue.peek().key == key && queue.peek().move == move) {
+					final RunReader reader = queue.poll();
+					count += reader.count;
+					advance(reader, queue);
+				}
+				sink.accept(key, move, (int) Math.min(count, Integer.MAX_VALUE));
+			}
+		}finally {
+			for(final RunReader reader : queue) {
+				reader.close();
+			}
+		}
+	}
+
+	private static void advance(final RunReader reader, final PriorityQueue<RunReader> queue) throws IOException {
+		if(reader.next()) {
+			queue.add(reader);
+		}else {
+			reader.close();
+		}
+	}
+
+	private static void deleteRuns(final Path runDirectory) throws IOException {
+		final List<Path> paths = new ArrayList<Path>();
+		try(final Stream<Path> files = Files.list(runDirectory)) {
+			files.forEach(paths::add);
+		}
+		for(final Path path : paths) {
+			Files.deleteIfExists(path);
+		}
+		Files.deleteIfExists(runDirectory);
+	}
+
+	private final class ReplayWorker implements Callable<ReplayWorker> {
+
+		private final BlockingQueue<List<PgnGame>> queue;
+		private final Path runDirectory;
+		private final MoveCountTable table;
+		private final long[] gameKeys;
+		private final int[] gameMoves;
+		private final List<Path> runs;
+		private long games;
+		private long rejectedGames;
+		private long positions;
+
+		private ReplayWorker(final BlockingQueue<List<PgnGame>> queue, final Path runDirectory, final int tableEntries) {
+			this.queue = queue;
+			this.runDirectory = runDirectory;
+			this.table = new MoveCountTable(tableEntries);
+			this.gameKeys = new long[BookBuilder.this.maxPly];
+			this.gameMoves = new int[BookBuilder.this.maxPly];
+			this.runs = new ArrayList<Path>();
+		}
+
+		@Override
+		public ReplayWorker call() throws IOException, InterruptedException {
+			for(List<PgnGame> batch = this.queue.take(); batch != END_OF_INPUT; batch = this.queue.take()) {
+				for(final PgnGame game : batch) {
+					this.games++;
+					if(!replay(game)) {
+						this.rejectedGames++;
+					}
+				}
+			}
+			if(this.table.size() > 0) {
+				spill();
+			}
+			return this;
+		}
+
+		private boolean replay(final PgnGame game) throws IOException {
+			Board board;
+			try {
+				board = game.getFen() == null ? Board.createStandardBoard() :
+					FenUtilities.createGameFromFEN(game.getFen());
+			}catch(final RuntimeException e) {
+				return false;
+			}
+			final List<String> moves = game.getMoves();
+			final int plies = Math.min(moves.size(), BookBuilder.this.maxPly);
+			for(int ply = 0; ply < plies; ply++) {
+				final Move move = SanUtilities.resolveMove(board, moves.get(ply));
+				if(move == Move.NULL_MOVE) {
+					return false;
+				}
+				this.gameKeys[ply] = board.getZobristKey();
+				this.gameMoves[ply] = PolyglotBook.toPolyglotMove(move);
+				board = board.getCurrentPlayer().makeMove(move).getBoard();
+			}
+			for(int ply = 0; ply < plies; ply++) {
+				this.table.increment(this.gameKeys[ply], this.gameMoves[ply]);
+				if(this.table.isFull()) {
+					spill();
+				}
+			}
+			this.positions += plies;
+			return true;
+		}
+
+		private void spill() throws IOException {
+			final int size = this.table.size();
+			this.table.sort();
+			final Path run = Files.createTempFile(this.runDirectory, "replay", ".run");
+			try(final RunWriter writer = new RunWriter(run)) {
+				for(int i = 0; i < size; i++) {
+					writer.accept(this.table.getKey(i), this.table.getMove(i), this.table.getCount(i));
+				}
+			}
+			this.table.clear();
+			this.runs.add(run);
+		}
+
+	}
+
+	private interface RecordSink {
+
+		void accept(long key, int move, int count) throws IOException;
+
+	}
+
+	private static final class RunWriter implements RecordSink, AutoCloseable {
+
+		private final DataOutputStream out;
+
+		private RunWriter(final Path path) throws IOException {
+			this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE));
+		}
+
+		@Override
+		public void accept(final long key, final int move, final int count) throws IOException {
+			this.out.writeLong(key);
+			this.out.writeShort(move);
+			this.out.writeInt(count);
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.out.close();
+		}
+
+	}
+
+	private static final class RunReader implements AutoCloseable {
+
+		private final DataInputStream in;
+		private long key;
+		private int move;
+		private int count;
+
+		private RunReader(final Path path) throws IOException {
+			this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), IO_BUFFER_SIZE));
+		}
+
+		private boolean next() throws IOException {
+			try {
+				this.key = this.in.readLong();
+			}catch(final EOFException e) {
+				return false;
+			}
+			this.move = this.in.readUnsignedShort();
+			this.count = this.in.readInt();
+			return true;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.in.close();
+		}
+
+	}
+
+	private static final class BookWriter implements RecordSink, AutoCloseable {
+
+		private final DataOutputStream out;
+		private final int minCount;
+		private final List<int[]> group;
+		private long groupKey;
+		private long entries;
+
+		private BookWriter(final Path path, final int minCount) throws IOException {
+			this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), IO_BUFFER_SIZE));
+			this.minCount = minCount;
+			this.group = new ArrayList<int[]>();
+		}
+
+		@Override
+		public void accept(final long key, final int move, final int count) throws IOException {
+			if(!this.group.isEmpty() && key != this.groupKey) {
+				flush();
+			}
+			this.groupKey = key;
+			if(count >= this.minCount) {
+				this.group.add(new int[] { move, count });
+			}
+		}
+
+		private void flush() throws IOException {
+			Collections.sort(this.group, (e1, e2) -> Integer.compare(e2[1], e1[1]));
+			final int maxCount = this.group.isEmpty() ? 0 : this.group.get(0)[1];
+			for(final int[] entry : this.group) {
+				final long weight = maxCount <= MAX_WEIGHT ? entry[1] :
+					Math.max(1, (long) entry[1] * MAX_WEIGHT / maxCount);
+				this.out.writeLong(this.groupKey);
+				this.out.writeShort(entry[0]);
+				this.out.writeShort((int) weight);
+				this.out.writeInt(0);
+				this.entries++;
+			}
+			this.group.clear();
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				flush();
+			}finally {
+				this.out.close();
+			}
+		}
+
+	}
+
+	public static final class BuildResult {
+
+		private final long games;
+		private final long rejectedGames;
+		private final long positions;
+		private final int runs;
+		private final long entries;
+		private final long time;
+
+		private BuildResult(final long games, final long rejectedGames, final long positions, final int runs,
+				final long entries, final long time) {
+			this.games = games;
+			this.rejectedGames = rejectedGames;
+			this.positions = positions;
+			this.runs = runs;
+			this.entries = entries;
+			this.time = time;
+		}
+
+		public long getGames() {
+			return this.games;
+		}
+
+		public long getRejectedGames() {
+			return this.rejectedGames;
+		}
+
+		public long getPositions() {
+			return this.positions;
+		}
+
+		public int getRuns() {
+			return this.runs;
+		}
+
+		public long getEntries() {
+			return this.entries;
+		}
+
+		public long getTime() {
+			return this.time;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Games: %d, Rejected: %d, Positions: %d, Runs: %d, Entries: %d, Time: %d ms",
+					this.games, this.rejectedGames, this.positions, this.runs, this.entries, this.time);
+		}
+
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.chess.engine.book;
+
+import com.chess.engine.move.Move;
+
+public final class BookMove {
+
+	private final Move move;
+	private final int weight;
+
+	public BookMove(final Move move, final int weight) {
+		this.move = move;
+		this.weight = weight;
+	}
+
+	public Move getMove() {
+		return this.move;
+	}
+
+	public int getWeight() {
+		return this.weight;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s (%d)", this.move, this.weight);
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.chess.engine.book;
+
+import java.util.Arrays;
+
+final class MoveCountTable {
+
+	private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	private final long[] keys;
+	private final int[] moves;
+	private final int[] counts;
+	private final int mask;
+	private final int maxSize;
+	private int size;
+	private boolean compacted;
+
+	MoveCountTable(final int maxSize) {
+		if(maxSize < 1 || maxSize > 1 << 29) {
+			throw new RuntimeException(String.format("Invalid table size: %d!", maxSize));
+		}
+		final int capacity = Integer.highestOneBit(maxSize + maxSize / 3) << 1;
+		this.keys = new long[capacity];
+		this.moves = new int[capacity];
+		this.counts = new int[capacity];
+		this.mask = capacity - 1;
+		this.maxSize = maxSize;
+	}
+
+	void increment(final long key, final int move) {
+		if(this.compacted) {
+			throw new RuntimeException("Table must be cleared after sorting!");
+		}
+		int index = index(key, move);
+		while(this.counts[index] != 0) {
+			if(this.keys[index] == key && this.moves[index] == move) {
+				if(this.counts[index] != Integer.MAX_VALUE) {
+					this.counts[index]++;
+				}
+				return;
+			}
+			index = (index + 1) & this.mask;
+		}
+		this.keys[index] = key;
+		this.moves[index] = move;
+		this.counts[index] = 1;
+		this.size++;
+	}
+
+	boolean isFull() {
+		return this.size >= this.maxSize;
+	}
+
+	int size() {
+		return this.size;
+	}
+
+	void sort() {
+		int end = 0;
+		for(int i = 0; i < this.counts.length; i++) {
+			if(this.counts[i] != 0) {
+				this.keys[end] = this.keys[i];
+				this.moves[end] = this.moves[i];
+				this.counts[end] = this.counts[i];
+				end++;
+			}
+		}
+		Arrays.fill(this.counts, end, this.counts.length, 0);
+		this.compacted = true;
+		quickSort(0, end - 1);
+	}
+
+	long getKey(final int index) {
+		return this.keys[index];
+	}
+
+	int getMove(final int index) {
+		return this.moves[index];
+	}
+
+	int getCount(final int index) {
+		return this.counts[index];
+	}
+
+	void clear() {
+		Arrays.fill(this.counts, 0);
+		this.size = 0;
+		this.compacted = false;
+	}
+
+	static int compare(final long key1, final int move1, final long key2, final int move2) {
+		final int result = Long.compareUnsigned(key1, key2);
+		return result != 0 ? result : Integer.compare(move1, move2);
+	}
+
+	private int index(final long key, final int move) {
+		final long hash = (key ^ move) * HASH_MULTIPLIER;
+		return (int) (hash >>> 32) & this.mask;
+	}
+
+	private void quickSort(int low, int high) {
+		while(high - low > INSERTION_SORT_THRESHOLD) {
+			final int middle = (low + high) >>> 1;
+			final long pivotKey = this.keys[middle];
+			final int pivotMove = this.moves[middle];
+			int i = low;
+			int j = high;
+			while(i <= j) {
+				while(compare(this.keys[i], this.moves[i], pivotKey, pivotMove) < 0) {
+					i++;
+				}
+				while(compare(this.keys[j], this.moves[j], pivotKey, pivotMove) > 0) {
+					j--;
+				}
+				if(i <= j) {
+					swap(i++, j--);
+				}
+			}
+			if(j - low < high - i) {
+				quickSort(low, j);
+				low = i;
+			}else {
+				quickSort(i, high);
+				high = j;
+			}
+		}
+		for(int i = low + 1; i <= high; i++) {
+			for(int j = i; j > low; j--) {
+				if(compare(this.keys[j - 1], this.moves[j - 1], this.keys[j], this.moves[j]) <= 0) {
+					break;
+				}
+				swap(j - 1, j);
+			}
+		}
+	}
+
+	private void swap(final int i, final int j) {
+		final long key = this.keys[i];
+		this.keys[i] = this.keys[j];
+		this.keys[j] = key;
+		final int move = this.moves[i];
+		this.moves[i] = this.moves[j];
+		this.moves[j] = move;
+		final int count = this.counts[i];
+		this.counts[i] = this.counts[j];
+		this.counts[j] = count;
+	}
+
+}
@@ -0,0 +1,212 @@
+package com.chess.engine.book;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PgnReader implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final Reader reader;
+	private final char[] buffer;
+	private final StringBuilder token;
+	private int length;
+	private int index;
+	private int pushback;
+
+	public PgnReader(final Reader reader) {
+		this.reader = reader;
+		this.buffer = new char[BUFFER_SIZE];
+		this.token = new StringBuilder(16);
+		this.pushback = -1;
+	}
+
+	public PgnGame nextGame() throws IOException {
+		String fen = null;
+		final List<String> moves = new ArrayList<String>();
+		boolean started = false;
+		for(int c = read(); c != -1; c = read()) {
+			switch(c) {
+				case '[':
+					if(!moves.isEmpty()) {
+						this.pushback = c;
+						return new PgnGame(fen, moves);
+					}
+					started = true;
+					final String value = readTag();
+					if(value != null) {
+						fen = value;
+					}
+					break;
+				case '{':
+					skipComment();
+					break;
+				case ';':
+				case '%':
+					skipLine();
+					break;
+				case '(':
+					skipVariation();
+					break;
+				case '$':
+					readToken(read());
+					break;
+				default:
+					if(Character.isWhitespace(c)) {
+						break;
+					}
+					started = true;
+					final String text = readToken(c);
+					if(isResult(text)) {
+						return new PgnGame(fen, moves);
+					}
+					final String move = stripMoveNumber(text);
+					if(!move.isEmpty() && !move.equals(SanUtilities.EN_PASSANT_SUFFIX)) {
+						moves.add(move);
+					}
+					break;
+			}
+		}
+		return started ? new PgnGame(fen, moves) : null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.reader.close();
+	}
+
+	private String readTag() throws IOException {
+		this.token.setLength(0);
+		int c = read();
+		while(c != -1 && c != ']' && c != '"') {
+			if(!Character.isWhitespace(c)) {
+				this.token.append((char) c);
+			}
+			c = read();
+		}
+		final boolean isFen = this.token.toString().equals("FEN");
+		this.token.setLength(0);
+		if(c == '"') {
+			for(c = read(); c != -1 && c != '"'; c = read()) {
+				if(c == '\\') {
+					c = read();
+				}
+				this.token.append((char) c);
+			}
+			while(c != -1 && c != ']') {
+				c = read();
+			}
+		}
+		return isFen ? this.token.toString() : null;
+	}
+
+	private String readToken(final int first) throws IOException {
+		this.token.setLength(0);
+		int c = first;
+		while(c != -1 && !Character.isWhitespace(c) && !isDelimiter(c)) {
+			this.token.append((char) c);
+			c = read();
+		}
+		if(c != -1 && isDelimiter(c)) {
+			this.pushback = c;
+		}
+		return this.token.toString();
+	}
+
+	private void skipComment() throws IOException {
+		skipTo('}');
+	}
+
+	private void skipLine() throws IOException {
+		skipTo('\n');
+	}
+
+	private void skipTo(final char end) throws IOException {
+		int c = read();
+		while(c != -1 && c != end) {
+			c = read();
+		}
+	}
+
+	private void skipVariation() throws IOException {
+		int depth = 1;
+		while(depth > 0) {
+			final int c = read();
+			if(c == -1) {
+				return;
+			}
+			if(c == '(') {
+				depth++;
+			}else if(c == ')') {
+				depth--;
+			}else if(c == '{') {
+				skipComment();
+			}else if(c == ';') {
+				skipLine();
+			}
+		}
+	}
+
+	private int read() throws IOException {
+		if(this.pushback != -1) {
+			final int c = this.pushback;
+			this.pushback = -1;
+			return c;
+		}
+		if(this.index == this.length) {
+			this.length = this.reader.read(this.buffer, 0, BUFFER_SIZE);
+			this.index = 0;
+			if(this.length <= 0) {
+				this.length = 0;
+				return -1;
+			}
+		}
+		return this.buffer[this.index++];
+	}
+
+	private static boolean isDelimiter(final int c) {
+		return c == '{' || c == '}' || c == '(' || c == ')' || c == '[' || c == ']' || c == ';' || c == '$';
+	}
+
+	private static boolean isResult(final String token) {
+		return token.equals("1-0") || token.equals("0-1") || token.equals("1/2-1/2") || token.equals("*");
+	}
+
+	private static String stripMoveNumber(final String token) {
+		int i = 0;
+		while(i < token.length() && Character.isDigit(token.charAt(i))) {
+			i++;
+		}
+		if(i == token.length() || token.charAt(i) != '.') {
+			return i == token.length() ? "" : token;
+		}
+		while(i < token.length() && token.charAt(i) == '.') {
+			i++;
+		}
+		return token.substring(i);
+	}
+
+	public static final class PgnGame {
+
+		private final String fen;
+		private final List<String> moves;
+
+		PgnGame(final String fen, final List<String> moves) {
+			this.fen = fen;
+			this.moves = moves;
+		}
+
+		public String getFen() {
+			return this.fen;
+		}
+
+		public List<String> getMoves() {
+			return this.moves;
+		}
+
+	}
+
+}
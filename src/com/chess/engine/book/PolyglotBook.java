@@ -0,0 +1,189 @@
+package com.chess.engine.book;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.move.EncodedMove;
+import com.chess.engine.move.Move;
+import com.chess.engine.pieces.Piece;
+
+public final class PolyglotBook {
+
+	public static final int ENTRY_SIZE = 16;
+
+	private static final int SEGMENT_SHIFT = 26;
+	private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+	private static final Piece.Type[] PROMOTION_TYPES = {
+		null, Piece.Type.KNIGHT, Piece.Type.BISHOP, Piece.Type.ROOK, Piece.Type.QUEEN
+	};
+
+	private final MappedByteBuffer[] segments;
+	private final long numEntries;
+
+	private PolyglotBook(final MappedByteBuffer[] segments, final long numEntries) {
+		this.segments = segments;
+		this.numEntries = numEntries;
+	}
+
+	public static PolyglotBook open(final Path path) {
+		try(final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if(size % ENTRY_SIZE != 0) {
+				throw new RuntimeException(String.format("Book %s is not a multiple of %d bytes!", path, ENTRY_SIZE));
+			}
+			final long numEntries = size / ENTRY_SIZE;
+			final MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((numEntries + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+			for(int i = 0; i < segments.length; i++) {
+				final long offset = (long) i << SEGMENT_SHIFT;
+				final long length = Math.min(SEGMENT_MASK + 1, numEntries - offset) * ENTRY_SIZE;
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset * ENTRY_SIZE, length);
+			}
+			return new PolyglotBook(segments, numEntries);
+		}catch(final IOException e) {
+			throw new RuntimeException(String.format("Failed to open book %s!", path), e);
+		}
+	}
+
+	public long getNumEntries() {
+		return this.numEntries;
+	}
+
+	public boolean contains(final Board board) {
+		final long key = board.getZobristKey();
+		final long index = findFirst(key);
+		return index < this.numEntries && getKey(index) == key;
+	}
+
+	public List<BookMove> getMoves(final Board board) {
+		final long key = board.getZobristKey();
+		final List<BookMove> moves = new ArrayList<BookMove>();
+		for(long index = findFirst(key); index < this.numEntries && getKey(index) == key; index++) {
+			final Move move = resolveMove(board, getMove(index));
+			if(move != Move.NULL_MOVE) {
+				moves.add(new BookMove(move, getWeight(index)));
+			}
+		}
+		if(moves.size() > 1) {
+			Collections.sort(moves, (m1, m2) -> Integer.compare(m2.getWeight(), m1.getWeight()));
+		}
+		return moves;
+	}
+
+	public Move selectMove(final Board board, final Random random) {
+		final List<BookMove> moves = getMoves(board);
+		long totalWeight = 0;
+		for(final BookMove move : moves) {
+			totalWeight += move.getWeight();
+		}
+		if(totalWeight == 0) {
+			return moves.isEmpty() ? Move.NULL_MOVE : moves.get(0).getMove();
+		}
+		long pick = (long) (random.nextDouble() * totalWeight);
+		for(final BookMove move : moves) {
+			pick -= move.getWeight();
+			if(pick < 0) {
+				return move.getMove();
+			}
+		}
+		return moves.get(moves.size() - 1).getMove();
+	}
+
+	public static Move resolveMove(final Board board, final int polyglotMove) {
+		final int position = toPosition((polyglotMove >>> 6) & 7, (polyglotMove >>> 9) & 7);
+		int destination = toPosition(polyglotMove & 7, (polyglotMove >>> 3) & 7);
+		final int promotion = (polyglotMove >>> 12) & 7;
+		if(promotion >= PROMOTION_TYPES.length) {
+			return Move.NULL_MOVE;
+		}
+		final Piece piece = board.getPiece(position);
+		if(piece != null && piece.getType() == Piece.Type.KING && piece.isFirstMove()) {
+			if(destination == position + 3) {
+				destination = position + 2;
+			}else if(destination == position - 4) {
+				destination = position - 2;
+			}
+		}
+		for(final Move move : board.getCurrentPlayer().getLegalMoves()) {
+			if(move.getPosition() == position && move.getDestination() == destination &&
+					EncodedMove.getPromotionType(EncodedMove.fromMove(move)) == PROMOTION_TYPES[promotion]) {
+				return move;
+			}
+		}
+		return Move.NULL_MOVE;
+	}
+
+	public static int toPolyglotMove(final Move move) {
+		final int encodedMove = EncodedMove.fromMove(move);
+		final int position = move.getPosition();
+		int destination = move.getDestination();
+		if(EncodedMove.isCastle(encodedMove)) {
+			destination = EncodedMove.getKind(encodedMove) == EncodedMove.KING_SIDE_CASTLE ? position + 3 : position - 4;
+		}
+		int promotion = 0;
+		final Piece.Type promotionType = EncodedMove.getPromotionType(encodedMove);
+		for(int i = 1; i < PROMOTION_TYPES.length; i++) {
+			if(PROMOTION_TYPES[i] == promotionType) {
+				promotion = i;
+			}
+		}
+		return promotion << 12 | toRow(position) << 9 | toFile(position) << 6 | toRow(destination) << 3 |
+				toFile(destination);
+	}
+
+	private long findFirst(final long key) {
+		long low = 0;
+		long high = this.numEntries;
+		while(low < high) {
+			final long mid = (low + high) >>> 1;
+			if(Long.compareUnsigned(getKey(mid), key) < 0) {
+				low = mid + 1;
+			}else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private long getKey(final long index) {
+		return segment(index).getLong(offset(index));
+	}
+
+	private int getMove(final long index) {
+		return segment(index).getShort(offset(index) + 8) & 0xFFFF;
+	}
+
+	private int getWeight(final long index) {
+		return segment(index).getShort(offset(index) + 10) & 0xFFFF;
+	}
+
+	private MappedByteBuffer segment(final long index) {
+		return this.segments[(int) (index >>> SEGMENT_SHIFT)];
+	}
+
+	private static int offset(final long index) {
+		return (int) (index & SEGMENT_MASK) * ENTRY_SIZE;
+	}
+
+	private static int toPosition(final int file, final int row) {
+		return (7 - row) * BoardUtils.NUM_TILES_PER_ROW + file;
+	}
+
+	private static int toFile(final int position) {
+		return position % BoardUtils.NUM_TILES_PER_ROW;
+	}
+
+	private static int toRow(final int position) {
+		return 7 - position / BoardUtils.NUM_TILES_PER_ROW;
+	}
+
+}
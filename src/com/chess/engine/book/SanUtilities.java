@@ -0,0 +1,129 @@
+package com.chess.engine.book;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.move.EncodedMove;
+import com.chess.engine.move.Move;
+import com.chess.engine.pieces.Piece;
+
+public final class SanUtilities {
+
+	static final String EN_PASSANT_SUFFIX = "e.p.";
+
+	private SanUtilities() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static Move resolveMove(final Board board, final String san) {
+		int end = stripAnnotations(san, san.length());
+		if(san.startsWith(EN_PASSANT_SUFFIX, end - EN_PASSANT_SUFFIX.length())) {
+			end = stripAnnotations(san, end - EN_PASSANT_SUFFIX.length());
+		}
+		if(end < 2) {
+			return Move.NULL_MOVE;
+		}
+		if(isCastle(san, end)) {
+			final int kind = end == 3 ? EncodedMove.KING_SIDE_CASTLE : EncodedMove.QUEEN_SIDE_CASTLE;
+			for(final Move move : board.getCurrentPlayer().getLegalMoves()) {
+				if(move.isCastlingMove() && EncodedMove.getKind(EncodedMove.fromMove(move)) == kind) {
+					return move;
+				}
+			}
+			return Move.NULL_MOVE;
+		}
+
+		Piece.Type promotionType = null;
+		final Piece.Type lastType = toPieceType(san.charAt(end - 1));
+		if(lastType != null) {
+			promotionType = lastType;
+			end -= san.charAt(end - 2) == '=' ? 2 : 1;
+		}
+		if(end < 2) {
+			return Move.NULL_MOVE;
+		}
+		final int file = san.charAt(end - 2) - 'a';
+		final int rank = san.charAt(end - 1) - '1';
+		if(!isValidIndex(file) || !isValidIndex(rank)) {
+			return Move.NULL_MOVE;
+		}
+		final int destination = (7 - rank) * BoardUtils.NUM_TILES_PER_ROW + file;
+
+		final Piece.Type movedType = toPieceType(san.charAt(0));
+		final Piece.Type pieceType = movedType == null ? Piece.Type.PAWN : movedType;
+		int fromFile = -1;
+		int fromRank = -1;
+		for(int i = movedType == null ? 0 : 1; i < end - 2; i++) {
+			final char c = san.charAt(i);
+			if(c >= 'a' && c <= 'h') {
+				fromFile = c - 'a';
+			}else if(c >= '1' && c <= '8') {
+				fromRank = c - '1';
+			}else if(c != 'x' && c != ':' && c != '-') {
+				return Move.NULL_MOVE;
+			}
+		}
+
+		Move resolved = Move.NULL_MOVE;
+		for(final Move move : board.getCurrentPlayer().getLegalMoves()) {
+			final int position = move.getPosition();
+			if(move.getDestination() != destination || move.isCastlingMove() ||
+					move.getPiece().getType() != pieceType ||
+					fromFile >= 0 && position % BoardUtils.NUM_TILES_PER_ROW != fromFile ||
+					fromRank >= 0 && 7 - position / BoardUtils.NUM_TILES_PER_ROW != fromRank ||
+					EncodedMove.getPromotionType(EncodedMove.fromMove(move)) != promotionType) {
+				continue;
+			}
+			if(resolved != Move.NULL_MOVE) {
+				return Move.NULL_MOVE;
+			}
+			resolved = move;
+		}
+		return resolved;
+	}
+
+	private static boolean isCastle(final String san, final int end) {
+		if(end != 3 && end != 5) {
+			return false;
+		}
+		for(int i = 0; i < end; i++) {
+			final char c = san.charAt(i);
+			if(i % 2 == 0 ? c != 'O' && c != '0' : c != '-') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int stripAnnotations(final String san, int end) {
+		while(end > 0 && isAnnotation(san.charAt(end - 1))) {
+			end--;
+		}
+		return end;
+	}
+
+	private static boolean isAnnotation(final char c) {
+		return c == '+' || c == '#' || c == '!' || c == '?';
+	}
+
+	private static boolean isValidIndex(final int index) {
+		return index >= 0 && index < BoardUtils.NUM_TILES_PER_ROW;
+	}
+
+	private static Piece.Type toPieceType(final char c) {
+		switch(c) {
+			case 'N':
+				return Piece.Type.KNIGHT;
+			case 'B':
+				return Piece.Type.BISHOP;
+			case 'R':
+				return Piece.Type.ROOK;
+			case 'Q':
+				return Piece.Type.QUEEN;
+			case 'K':
+				return Piece.Type.KING;
+			default:
+				return null;
+		}
+	}
+
+}
@@ -0,0 +1,204 @@
+package com.chess.engine.move;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.move.Move.KingSideCastleMove;
+import com.chess.engine.move.Move.MajorAttackMove;
+import com.chess.engine.move.Move.MajorMove;
+import com.chess.engine.move.Move.PawnAttackMove;
+import com.chess.engine.move.Move.PawnEnPassantAttackMove;
+import com.chess.engine.move.Move.PawnJump;
+import com.chess.engine.move.Move.PawnMove;
+import com.chess.engine.move.Move.PawnPromotion;
+import com.chess.engine.move.Move.QueenSideCastleMove;
+import com.chess.engine.pieces.Bishop;
+import com.chess.engine.pieces.Knight;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Queen;
+import com.chess.engine.pieces.Rook;
+import com.chess.engine.player.Alliance;
+
+public final class EncodedMove {
+
+	public static final int NONE = 0;
+
+	public static final int QUIET = 0;
+	public static final int PAWN_JUMP = 1;
+	public static final int KING_SIDE_CASTLE = 2;
+	public static final int QUEEN_SIDE_CASTLE = 3;
+	public static final int CAPTURE = 4;
+	public static final int EN_PASSANT = 5;
+	public static final int PROMOTION = 8;
+	public static final int PROMOTION_CAPTURE = 12;
+
+	public static final int SHORT_MOVE_MASK = 0xFFFF;
+
+	private static final int SQUARE_MASK = 0x3F;
+	private static final int KIND_SHIFT = 12;
+	private static final int KIND_MASK = 0xF;
+	private static final int CAPTURED_SHIFT = 16;
+	private static final int CAPTURED_MASK = 0xF;
+
+	private static final Piece.Type[] PIECE_TYPES = Piece.Type.values();
+
+	private static final Piece.Type[] PROMOTION_TYPES = {
+		Piece.Type.KNIGHT, Piece.Type.BISHOP, Piece.Type.ROOK, Piece.Type.QUEEN
+	};
+
+	private EncodedMove() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static int create(final int position, final int destination, final int kind) {
+		return position | destination << 6 | kind << KIND_SHIFT;
+	}
+
+	public static int create(final int position, final int destination, final int kind, final Piece.Type capturedType) {
+		return create(position, destination, kind) | (capturedType.ordinal() + 1) << CAPTURED_SHIFT;
+	}
+
+	public static int createPromotion(final int position, final int destination, final Piece.Type promotionType,
+			final Piece.Type capturedType) {
+		if(capturedType == null) {
+			return create(position, destination, PROMOTION | promotionIndex(promotionType));
+		}
+		return create(position, destination, PROMOTION_CAPTURE | promotionIndex(promotionType), capturedType);
+	}
+
+	public static int fromMove(final Move move) {
+		final int position = move.getPosition();
+		final int destination = move.getDestination();
+		final Piece attackedPiece = move.getAttackedPiece();
+		if(move instanceof PawnPromotion) {
+			return createPromotion(position, destination, ((PawnPromotion) move).getPromotionPiece().getType(),
+					attackedPiece == null ? null : attackedPiece.getType());
+		}
+		if(move instanceof KingSideCastleMove) {
+			return create(position, destination, KING_SIDE_CASTLE);
+		}
+		if(move instanceof QueenSideCastleMove) {
+			return create(position, destination, QUEEN_SIDE_CASTLE);
+		}
+		if(move instanceof PawnEnPassantAttackMove) {
+			return create(position, destination, EN_PASSANT, Piece.Type.PAWN);
+		}
+		if(move instanceof PawnJump) {
+			return create(position, destination, PAWN_JUMP);
+		}
+		if(move.isAttackMove()) {
+			return create(position, destination, CAPTURE, attackedPiece.getType());
+		}
+		return create(position, destination, QUIET);
+	}
+
+	public static Move toMove(final Board board, final int move) {
+		final int shortMove = toShortMove(move);
+		for(final Move candidate : board.getCurrentPlayer().getLegalMoves()) {
+			if(candidate.getPosition() == getPosition(move) && candidate.getDestination() == getDestination(move) &&
+					toShortMove(fromMove(candidate)) == shortMove) {
+				return candidate;
+			}
+		}
+		return Move.NULL_MOVE;
+	}
+
+	public static Move createMove(final Board board, final int move) {
+		final int position = getPosition(move);
+		final int destination = getDestination(move);
+		final Piece piece = board.getPiece(position);
+		switch(getKind(move)) {
+			case QUIET:
+				return piece.getType() == Piece.Type.PAWN ? new PawnMove(board, piece, destination) :
+					new MajorMove(board, piece, destination);
+			case PAWN_JUMP:
+				return new PawnJump(board, piece, destination);
+			case KING_SIDE_CASTLE:
+				return new KingSideCastleMove(board, piece, destination, (Rook) board.getPiece(position + 3),
+						position + 3, position + 1);
+			case QUEEN_SIDE_CASTLE:
+				return new QueenSideCastleMove(board, piece, destination, (Rook) board.getPiece(position - 4),
+						position - 4, position - 1);
+			case CAPTURE:
+				return piece.getType() == Piece.Type.PAWN ?
+					new PawnAttackMove(board, piece, destination, board.getPiece(destination)) :
+					new MajorAttackMove(board, piece, destination, board.getPiece(destination));
+			case EN_PASSANT:
+				return new PawnEnPassantAttackMove(board, piece, destination, board.getEnPassantPawn());
+			default:
+				final Move pawnMove = isCapture(move) ?
+					new PawnAttackMove(board, piece, destination, board.getPiece(destination)) :
+					new PawnMove(board, piece, destination);
+				return new PawnPromotion(pawnMove, createPromotionPiece(piece.getAlliance(), destination,
+						getPromotionType(move)));
+		}
+	}
+
+	public static int toShortMove(final int move) {
+		return move & SHORT_MOVE_MASK;
+	}
+
+	public static int getPosition(final int move) {
+		return move & SQUARE_MASK;
+	}
+
+	public static int getDestination(final int move) {
+		return move >>> 6 & SQUARE_MASK;
+	}
+
+	public static int getKind(final int move) {
+		return move >>> KIND_SHIFT & KIND_MASK;
+	}
+
+	public static boolean isCapture(final int move) {
+		return (getKind(move) & CAPTURE) != 0;
+	}
+
+	public static boolean isPromotion(final int move) {
+		return (getKind(move) & PROMOTION) != 0;
+	}
+
+	public static boolean isCastle(final int move) {
+		final int kind = getKind(move);
+		return kind == KING_SIDE_CASTLE || kind == QUEEN_SIDE_CASTLE;
+	}
+
+	public static Piece.Type getPromotionType(final int move) {
+		return isPromotion(move) ? PROMOTION_TYPES[getKind(move) & 3] : null;
+	}
+
+	public static Piece.Type getCapturedType(final int move) {
+		final int captured = move >>> CAPTURED_SHIFT & CAPTURED_MASK;
+		return captured == 0 ? null : PIECE_TYPES[captured - 1];
+	}
+
+	public static String toString(final int move) {
+		final StringBuilder sb = new StringBuilder()
+			.append(BoardUtils.encodePosition(getPosition(move)))
+			.append(BoardUtils.encodePosition(getDestination(move)));
+		if(isPromotion(move)) {
+			sb.append(getPromotionType(move).toString().toLowerCase());
+		}
+		return sb.toString();
+	}
+
+	private static Piece createPromotionPiece(final Alliance ally, final int destination, final Piece.Type type) {
+		switch(type) {
+			case QUEEN:
+				return new Queen(ally, destination, false);
+			case ROOK:
+				return new Rook(ally, destination, false);
+			case BISHOP:
+				return new Bishop(ally, destination, false);
+			default:
+				return new Knight(ally, destination, false);
+		}
+	}
+
+	private static int promotionIndex(final Piece.Type promotionType) {
+		for(int i = 0; i < PROMOTION_TYPES.length; i++) {
+			if(PROMOTION_TYPES[i] == promotionType) return i;
+		}
+		throw new RuntimeException(String.format("Cannot promote to %s!", promotionType));
+	}
+
+}
@@ -5,9 +5,13 @@ import java.util.Objects;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Board.Builder;
 import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.CastlingRights;
+import com.chess.engine.board.PieceSquareTables;
+import com.chess.engine.board.Zobrist;
 import com.chess.engine.pieces.Pawn;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.pieces.Rook;
+import com.chess.engine.player.Alliance;
 
 public abstract class Move {
 
@@ -83,13 +87,56 @@ public abstract class Move {
 	}
 
 	public Board execute() {
-		final Builder builder = new Builder(this.board.getCurrentPlayer().getOpponent().getAlliance());
-		for(final Piece piece : this.board.getAllActivePieces()) {
-			if(!this.piece.equals(piece)) {
-				builder.setPiece(piece);
-			}
+		final Builder builder = createBuilder();
+		final Piece movedPiece = this.piece.makeMove(this.destination);
+		return builder.setPiece(movedPiece).setZobristKey(calculateZobristKey(movedPiece, null))
+				.setPawnKey(calculatePawnKey(movedPiece, null))
+				.setPieceSquareScore(calculatePieceSquareScore(movedPiece, null)).build();
+	}
+
+	protected Builder createBuilder() {
+		final Alliance moveMaker = this.board.getMoveMaker();
+		final boolean isIrreversible = this.piece.getType() == Piece.Type.PAWN || isAttackMove();
+		return new Builder(moveMaker.getOpposite()).setPieces(this.board).clearPiece(getPosition())
+				.setHalfmoveClock(isIrreversible ? 0 : this.board.getHalfmoveClock() + 1)
+				.setFullmoveNumber(moveMaker.isBlack() ? this.board.getFullmoveNumber() + 1 : this.board.getFullmoveNumber());
+	}
+
+	protected int calculatePieceSquareScore(final Piece movedPiece, final Piece capturedPiece) {
+		int score = this.board.getPieceSquareScore() - PieceSquareTables.score(this.piece) +
+				PieceSquareTables.score(movedPiece);
+		if(capturedPiece != null) {
+			score -= PieceSquareTables.score(capturedPiece);
 		}
-		return builder.setPiece(piece.makeMove(this.destination)).build();
+		return score;
+	}
+
+	protected long calculateZobristKey(final Piece movedPiece, final Piece capturedPiece) {
+		final int castlingRights = this.board.getCastlingRights();
+		final Alliance moveMaker = this.board.getMoveMaker();
+		long key = this.board.getZobristKey() ^ Zobrist.sideKey() ^
+				Zobrist.enPassantKey(this.board.getEnPassantPawn(), this.board.getPieces(moveMaker, Piece.Type.PAWN)) ^
+				Zobrist.castlingKey(castlingRights) ^
+				Zobrist.castlingKey(CastlingRights.update(castlingRights, getPosition(), this.destination)) ^
+				Zobrist.pieceKey(this.piece) ^ Zobrist.pieceKey(movedPiece);
+		if(capturedPiece != null) {
+			key ^= Zobrist.pieceKey(capturedPiece);
+		}
+		return key;
+	}
+
+	protected long calculatePawnKey(final Piece movedPiece, final Piece capturedPiece) {
+		long key = this.board.getPawnKey();
+		if(this.piece.getType() == Piece.Type.PAWN) {
+			key ^= Zobrist.pieceKey(this.piece);
+		}
+		if(movedPiece.getType() == Piece.Type.PAWN) {
+			key ^= Zobrist.pieceKey(movedPiece);
+		}
+		if(capturedPiece != null && capturedPiece.getType() == Piece.Type.PAWN) {
+			key ^= Zobrist.pieceKey(capturedPiece);
+		}
+		return key;
 	}
 
 	public static final class MajorMove extends Move {
@@ -137,13 +184,11 @@ public abstract class Move {
 
 		@Override
 		public Board execute() {
-			final Builder builder = new Builder(this.board.getCurrentPlayer().getOpponent().getAlliance());
-			for(final Piece piece : this.board.getAllActivePieces()) {
-				if(this.piece != piece && this.attackedPiece != piece) {
-					builder.setPiece(piece);
-				}
-			}
-			return builder.setPiece(piece.makeMove(destination)).build();
+			final Builder builder = createBuilder().clearPiece(this.attackedPiece.getPosition());
+			final Piece movedPiece = this.piece.makeMove(destination);
+			return builder.setPiece(movedPiece).setZobristKey(calculateZobristKey(movedPiece, this.attackedPiece))
+					.setPawnKey(calculatePawnKey(movedPiece, this.attackedPiece))
+					.setPieceSquareScore(calculatePieceSquareScore(movedPiece, this.attackedPiece)).build();
 		}
 
 		@Override
@@ -221,52 +266,92 @@ public abstract class Move {
 		}
 		
 		@Override
-		public String toString() {
-			System.out.println("EnPassant toString called!");
-			return super.toString();
+		public boolean equals(final Object other) {
+			return this == other || other instanceof PawnEnPassantAttackMove && super.equals(other);
+		}
+
+	}
+
+	public static final class PawnJump extends Move {
+
+		public PawnJump(final Board board, final Piece piece, final int destination) {
+			super(board, piece, destination);
 		}
 
 		@Override
-		public boolean equals(final Object other) {
-			return this == other || other instanceof PawnEnPassantAttackMove && super.equals(other);
+		public String toString() {
+			return BoardUtils.encodePosition(destination);
 		}
 
 		@Override
 		public Board execute() {
-//			final Builder builder = new Builder(board.getCurrentPlayer().getOpponent().getAlliance());
-//			for(final Piece piece : board.getAllActivePieces()) {
-//				if(!this.piece.equals(piece) && !this.attackedPiece.equals(piece)) {
-//					builder.setPiece(piece);
-//				}
-//			}
-//			return builder.setPiece(piece.makeMove(destination)).build();
-			System.out.println("Executing en passant move!");
-			return super.execute();
+			final Builder builder = createBuilder();
+			final Pawn pawn = (Pawn) this.piece.makeMove(destination);
+			final long opponentPawns = this.board.getPieces(pawn.getAlliance().getOpposite(), Piece.Type.PAWN);
+			return builder.setPiece(pawn).setEnPassantPawn(pawn)
+					.setZobristKey(calculateZobristKey(pawn, null) ^ Zobrist.enPassantKey(pawn, opponentPawns))
+					.setPawnKey(calculatePawnKey(pawn, null))
+					.setPieceSquareScore(calculatePieceSquareScore(pawn, null)).build();
 		}
 
 	}
 
-	public static final class PawnJump extends Move {
+	public static final class PawnPromotion extends Move {
 
-		public PawnJump(final Board board, final Piece piece, final int destination) {
-			super(board, piece, destination);
+		private final Move decoratedMove;
+		private final Piece promotionPiece;
+
+		public PawnPromotion(final Move decoratedMove, final Piece promotionPiece) {
+			super(decoratedMove.getBoard(), decoratedMove.getPiece(), decoratedMove.getDestination());
+			this.decoratedMove = decoratedMove;
+			this.promotionPiece = promotionPiece;
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			if(this == other)
+				return true;
+			if(!(other instanceof PawnPromotion))
+				return false;
+			final PawnPromotion move = (PawnPromotion) other;
+			return decoratedMove.equals(move.decoratedMove) && promotionPiece.getType() == move.promotionPiece.getType();
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(decoratedMove, promotionPiece.getType());
 		}
 
 		@Override
 		public String toString() {
-			return BoardUtils.encodePosition(destination);
+			return decoratedMove.toString() + "=" + promotionPiece.getType();
+		}
+
+		@Override
+		public boolean isAttackMove() {
+			return decoratedMove.isAttackMove();
+		}
+
+		@Override
+		public Piece getAttackedPiece() {
+			return decoratedMove.getAttackedPiece();
+		}
+
+		public Piece getPromotionPiece() {
+			return this.promotionPiece;
 		}
 
 		@Override
 		public Board execute() {
-			final Builder builder = new Builder(this.board.getCurrentPlayer().getOpponent().getAlliance());
-			for(final Piece piece : this.board.getAllActivePieces()) {
-				if(!this.piece.equals(piece)) {
-					builder.setPiece(piece);
-				}
+			final Builder builder = createBuilder();
+			final Piece attackedPiece = decoratedMove.getAttackedPiece();
+			if(attackedPiece != null) {
+				builder.clearPiece(attackedPiece.getPosition());
 			}
-			final Pawn pawn = (Pawn) this.piece.makeMove(destination);
-			return builder.setPiece(pawn).setEnPassantPawn(pawn).build();
+			return builder.setPiece(this.promotionPiece)
+					.setZobristKey(calculateZobristKey(this.promotionPiece, attackedPiece))
+					.setPawnKey(calculatePawnKey(this.promotionPiece, attackedPiece))
+					.setPieceSquareScore(calculatePieceSquareScore(this.promotionPiece, attackedPiece)).build();
 		}
 
 	}
@@ -311,12 +396,15 @@ public abstract class Move {
 
 		@Override
 		public Board execute() {
-			final Builder builder = new Builder(this.board.getCurrentPlayer().getOpponent().getAlliance());
-
-			board.getAllActivePieces().forEach(builder::setPiece);
-
-			return builder.setPiece(this.piece.makeMove(destination)).setPiece(this.rook.makeMove(rookDestination))
-					.build();
+			final Builder builder = createBuilder().clearPiece(this.rookPosition);
+			final Piece movedKing = this.piece.makeMove(destination);
+			final Piece movedRook = this.rook.makeMove(rookDestination);
+			final long zobristKey = calculateZobristKey(movedKing, null) ^ Zobrist.pieceKey(this.rook) ^
+					Zobrist.pieceKey(movedRook);
+			final int pieceSquareScore = calculatePieceSquareScore(movedKing, null) -
+					PieceSquareTables.score(this.rook) + PieceSquareTables.score(movedRook);
+			return builder.setPiece(movedKing).setPiece(movedRook).setZobristKey(zobristKey)
+					.setPawnKey(this.board.getPawnKey()).setPieceSquareScore(pieceSquareScore).build();
 		}
 
 	}
@@ -362,7 +450,16 @@ public abstract class Move {
 	public static final class NullMove extends Move {
 
 		private NullMove() {
-			super(null, -1);
+			this(null);
+		}
+
+		public NullMove(final Board board) {
+			super(board, -1);
+		}
+
+		@Override
+		public int getPosition() {
+			return -1;
 		}
 		
 		@Override
@@ -372,7 +469,17 @@ public abstract class Move {
 
 		@Override
 		public Board execute() {
-			throw new RuntimeException("Failed to execute a NULL move!");
+			if(this.board == null) {
+				throw new RuntimeException("Failed to execute a NULL move!");
+			}
+			final Alliance moveMaker = this.board.getMoveMaker();
+			final long zobristKey = this.board.getZobristKey() ^ Zobrist.sideKey() ^
+					Zobrist.enPassantKey(this.board.getEnPassantPawn(), this.board.getPieces(moveMaker, Piece.Type.PAWN));
+			return new Builder(moveMaker.getOpposite()).setPieces(this.board)
+					.setHalfmoveClock(this.board.getHalfmoveClock() + 1)
+					.setFullmoveNumber(moveMaker.isBlack() ? this.board.getFullmoveNumber() + 1 : this.board.getFullmoveNumber())
+					.setZobristKey(zobristKey).setPawnKey(this.board.getPawnKey())
+					.setPieceSquareScore(this.board.getPieceSquareScore()).build();
 		}
 
 	}
@@ -392,6 +499,10 @@ public abstract class Move {
 			return NULL_MOVE;
 		}
 
+		public static Move createNullMove(final Board board) {
+			return new NullMove(board);
+		}
+
 	}
 
 }
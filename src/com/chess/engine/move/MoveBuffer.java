@@ -0,0 +1,68 @@
+package com.chess.engine.move;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.LegalMoveGenerator;
+import com.chess.engine.board.SearchBoard;
+
+public final class MoveBuffer {
+
+	public static final int MAX_MOVES = 256;
+
+	private final int[][] moves;
+	private final int[][] scores;
+	private final int[] counts;
+
+	public MoveBuffer(final int maxPly) {
+		this.moves = new int[maxPly + 1][MAX_MOVES];
+		this.scores = new int[maxPly + 1][MAX_MOVES];
+		this.counts = new int[maxPly + 1];
+	}
+
+	public int generate(final Board board, final int ply) {
+		this.counts[ply] = LegalMoveGenerator.generateMoves(board, this.moves[ply], 0);
+		return this.counts[ply];
+	}
+
+	public int generateTactical(final Board board, final int ply) {
+		this.counts[ply] = LegalMoveGenerator.generateTacticalMoves(board, this.moves[ply], 0);
+		return this.counts[ply];
+	}
+
+	public int generate(final SearchBoard board, final int ply) {
+		this.counts[ply] = board.generateMoves(this.moves[ply], 0);
+		return this.counts[ply];
+	}
+
+	public int getCount(final int ply) {
+		return this.counts[ply];
+	}
+
+	public int getMove(final int ply, final int index) {
+		return this.moves[ply][index];
+	}
+
+	public int[] getMoves(final int ply) {
+		return this.moves[ply];
+	}
+
+	public int[] getScores(final int ply) {
+		return this.scores[ply];
+	}
+
+	public void sort(final int ply) {
+		final int[] moves = this.moves[ply];
+		final int[] scores = this.scores[ply];
+		for(int i = 1; i < this.counts[ply]; i++) {
+			final int move = moves[i];
+			final int score = scores[i];
+			int j = i - 1;
+			for(; j >= 0 && scores[j] < score; j--) {
+				moves[j + 1] = moves[j];
+				scores[j + 1] = scores[j];
+			}
+			moves[j + 1] = move;
+			scores[j + 1] = score;
+		}
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.chess.engine.perft;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.move.Move;
+import com.chess.engine.move.MoveTransition;
+import com.chess.engine.perft.Perft.PerftResult;
+import com.chess.engine.player.Player;
+
+public final class ParallelPerft implements AutoCloseable {
+
+	public static final int DEFAULT_SPLIT_DEPTH = 2;
+
+	private final ForkJoinPool pool;
+	private final int splitDepth;
+
+	public ParallelPerft(final int parallelism, final int splitDepth) {
+		if(splitDepth < 1) {
+			throw new RuntimeException(String.format("Invalid split depth: %d!", splitDepth));
+		}
+		this.pool = new ForkJoinPool(parallelism);
+		this.splitDepth = splitDepth;
+	}
+
+	public ParallelPerft() {
+		this(Runtime.getRuntime().availableProcessors(), DEFAULT_SPLIT_DEPTH);
+	}
+
+	public long perft(final Board board, final int depth) {
+		return this.pool.invoke(new PerftTask(board, depth, 0));
+	}
+
+	public Map<Move, Long> divide(final Board board, final int depth) {
+		if(depth < 1) {
+			throw new RuntimeException(String.format("Invalid divide depth: %d!", depth));
+		}
+		final Player player = board.getCurrentPlayer();
+		final Map<Move, PerftTask> tasks = new LinkedHashMap<Move, PerftTask>();
+		for(final Move move : player.getLegalMoves()) {
+			final MoveTransition transition = player.makeMove(move);
+			if(transition.getMoveStatus().isDone()) {
+				tasks.put(move, new PerftTask(transition.getBoard(), depth - 1, 1));
+			}
+		}
+		for(final PerftTask task : tasks.values()) {
+			this.pool.execute(task);
+		}
+		final Map<Move, Long> divide = new LinkedHashMap<Move, Long>();
+		for(final Map.Entry<Move, PerftTask> entry : tasks.entrySet()) {
+			divide.put(entry.getKey(), entry.getValue().join());
+		}
+		return divide;
+	}
+
+	public PerftResult measure(final Board board, final int depth) {
+		final long start = System.nanoTime();
+		final long nodes = perft(board, depth);
+		return new PerftResult(depth, nodes, System.nanoTime() - start);
+	}
+
+	public int getParallelism() {
+		return this.pool.getParallelism();
+	}
+
+	public int getSplitDepth() {
+		return this.splitDepth;
+	}
+
+	@Override
+	public void close() {
+		this.pool.shutdown();
+	}
+
+	private final class PerftTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Board board;
+		private final int depth;
+		private final int ply;
+
+		private PerftTask(final Board board, final int depth, final int ply) {
+			this.board = board;
+			this.depth = depth;
+			this.ply = ply;
+		}
+
+		@Override
+		protected Long compute() {
+			if(this.ply >= ParallelPerft.this.splitDepth || this.depth <= 1) {
+				return Perft.perft(this.board, this.depth);
+			}
+			final Player player = this.board.getCurrentPlayer();
+			final List<PerftTask> subtasks = new ArrayList<PerftTask>();
+			for(final Move move : player.getLegalMoves()) {
+				final MoveTransition transition = player.makeMove(move);
+				if(transition.getMoveStatus().isDone()) {
+					subtasks.add(new PerftTask(transition.getBoard(), this.depth - 1, this.ply + 1));
+				}
+			}
+			long nodes = 0;
+			for(final PerftTask subtask : ForkJoinTask.invokeAll(subtasks)) {
+				nodes += subtask.join();
+			}
+			return nodes;
+		}
+
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.chess.engine.perft;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.move.Move;
+import com.chess.engine.move.MoveBuffer;
+import com.chess.engine.move.Move.PawnPromotion;
+import com.chess.engine.move.MoveTransition;
+import com.chess.engine.player.Player;
+
+public final class Perft {
+
+	private Perft() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static long perft(final Board board, final int depth) {
+		if(depth == 0) {
+			return 1;
+		}
+		final Player player = board.getCurrentPlayer();
+		if(depth == 1) {
+			return player.getLegalMoves().size();
+		}
+		long nodes = 0;
+		for(final Move move : player.getLegalMoves()) {
+			final MoveTransition transition = player.makeMove(move);
+			if(transition.getMoveStatus().isDone()) {
+				nodes += perft(transition.getBoard(), depth - 1);
+			}
+		}
+		return nodes;
+	}
+
+	public static long perft(final SearchBoard board, final int depth) {
+		return perft(board, depth, new MoveBuffer(depth));
+	}
+
+	public static Map<Move, Long> divide(final Board board, final int depth) {
+		if(depth < 1) {
+			throw new RuntimeException(String.format("Invalid divide depth: %d!", depth));
+		}
+		final Map<Move, Long> divide = new LinkedHashMap<Move, Long>();
+		final Player player = board.getCurrentPlayer();
+		for(final Move move : player.getLegalMoves()) {
+			final MoveTransition transition = player.makeMove(move);
+			if(transition.getMoveStatus().isDone()) {
+				divide.put(move, perft(transition.getBoard(), depth - 1));
+			}
+		}
+		return divide;
+	}
+
+	public static PerftResult measure(final Board board, final int depth) {
+		final long start = System.nanoTime();
+		final long nodes = perft(board, depth);
+		return new PerftResult(depth, nodes, System.nanoTime() - start);
+	}
+
+	public static PerftResult measure(final SearchBoard board, final int depth) {
+		final long start = System.nanoTime();
+		final long nodes = perft(board, depth);
+		return new PerftResult(depth, nodes, System.nanoTime() - start);
+	}
+
+	public static PerftResult printDivide(final Board board, final int depth, final PrintStream out) {
+		final long start = System.nanoTime();
+		long nodes = 0;
+		for(final Map.Entry<Move, Long> entry : divide(board, depth).entrySet()) {
+			out.println(String.format("%s: %d", toCoordinateNotation(entry.getKey()), entry.getValue()));
+			nodes += entry.getValue();
+		}
+		final PerftResult result = new PerftResult(depth, nodes, System.nanoTime() - start);
+		out.println();
+		out.println(result);
+		return result;
+	}
+
+	public static String toCoordinateNotation(final Move move) {
+		final String notation = BoardUtils.encodePosition(move.getPosition()) + BoardUtils.encodePosition(move.getDestination());
+		if(move instanceof PawnPromotion) {
+			return notation + ((PawnPromotion) move).getPromotionPiece().getType().toString().toLowerCase();
+		}
+		return notation;
+	}
+
+	private static long perft(final SearchBoard board, final int depth, final MoveBuffer moves) {
+		if(depth == 0) {
+			return 1;
+		}
+		final int count = moves.generate(board, depth);
+		final int[] plyMoves = moves.getMoves(depth);
+		long nodes = 0;
+		for(int i = 0; i < count; i++) {
+			if(board.makeMove(plyMoves[i])) {
+				nodes += perft(board, depth - 1, moves);
+				board.unmakeMove();
+			}
+		}
+		return nodes;
+	}
+
+	public static final class PerftResult {
+
+		private final int depth;
+		private final long nodes;
+		private final long elapsedNanos;
+
+		PerftResult(final int depth, final long nodes, final long elapsedNanos) {
+			this.depth = depth;
+			this.nodes = nodes;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		public int getDepth() {
+			return this.depth;
+		}
+
+		public long getNodes() {
+			return this.nodes;
+		}
+
+		public long getElapsedNanos() {
+			return this.elapsedNanos;
+		}
+
+		public long getNodesPerSecond() {
+			return this.elapsedNanos == 0 ? 0 : this.nodes * 1000000000L / this.elapsedNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Depth: %d, Nodes: %d, Time: %d ms, NPS: %d", depth, nodes,
+					elapsedNanos / 1000000, getNodesPerSecond());
+		}
+
+	}
+
+}
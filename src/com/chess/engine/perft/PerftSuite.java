@@ -0,0 +1,138 @@
+package com.chess.engine.perft;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.perft.Perft.PerftResult;
+
+public final class PerftSuite {
+
+	public static final List<PerftPosition> POSITIONS = Collections.unmodifiableList(createPositions());
+
+	private static final int DEFAULT_MAX_DEPTH = 4;
+
+	private PerftSuite() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static void main(final String[] args) {
+		int maxDepth = DEFAULT_MAX_DEPTH;
+		boolean useSearchBoard = false;
+		boolean divide = false;
+		boolean parallel = false;
+		for(final String arg : args) {
+			if(arg.equals("--search")) {
+				useSearchBoard = true;
+			}else if(arg.equals("--parallel")) {
+				parallel = true;
+			}else if(arg.equals("--divide")) {
+				divide = true;
+			}else {
+				maxDepth = Integer.parseInt(arg);
+			}
+		}
+		if(divide) {
+			if(maxDepth < 1) {
+				System.err.println(String.format("Invalid divide depth: %d!", maxDepth));
+				System.exit(1);
+			}
+			for(final PerftPosition position : POSITIONS) {
+				System.out.println(position.getName());
+				Perft.printDivide(position.createBoard(), maxDepth, System.out);
+				System.out.println();
+			}
+		}else if(parallel) {
+			try(final ParallelPerft parallelPerft = new ParallelPerft()) {
+				if(!run(maxDepth, parallelPerft)) {
+					System.exit(1);
+				}
+			}
+		}else if(!run(maxDepth, useSearchBoard)) {
+			System.exit(1);
+		}
+	}
+
+	public static boolean run(final int maxDepth, final boolean useSearchBoard) {
+		return run(maxDepth, (board, depth) -> useSearchBoard ?
+			Perft.measure(new SearchBoard(board), depth) : Perft.measure(board, depth));
+	}
+
+	public static boolean run(final int maxDepth, final ParallelPerft parallelPerft) {
+		return run(maxDepth, parallelPerft::measure);
+	}
+
+	private static boolean run(final int maxDepth, final BiFunction<Board, Integer, PerftResult> perft) {
+		boolean passed = true;
+		for(final PerftPosition position : POSITIONS) {
+			for(int depth = 1; depth <= Math.min(maxDepth, position.getMaxDepth()); depth++) {
+				final PerftResult result = perft.apply(position.createBoard(), depth);
+				final long expected = position.getExpectedNodes(depth);
+				final boolean matches = result.getNodes() == expected;
+				System.out.println(String.format("%s %-18s %s, Expected: %d", matches ? "PASS" : "FAIL",
+						position.getName(), result, expected));
+				passed &= matches;
+			}
+		}
+		return passed;
+	}
+
+	private static List<PerftPosition> createPositions() {
+		final List<PerftPosition> positions = new ArrayList<PerftPosition>();
+		positions.add(new PerftPosition("initial", Board::createStandardBoard,
+				20L, 400L, 8902L, 197281L, 4865609L, 119060324L));
+		positions.add(new PerftPosition("kiwipete",
+				fen("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"),
+				48L, 2039L, 97862L, 4085603L, 193690690L));
+		positions.add(new PerftPosition("enPassant",
+				fen("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"),
+				14L, 191L, 2812L, 43238L, 674624L, 11030083L));
+		positions.add(new PerftPosition("castlingPromotion",
+				fen("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"),
+				6L, 264L, 9467L, 422333L, 15833292L));
+		positions.add(new PerftPosition("promotionChecks",
+				fen("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8"),
+				44L, 1486L, 62379L, 2103487L, 89941194L));
+		return positions;
+	}
+
+	private static Supplier<Board> fen(final String fen) {
+		return () -> FenUtilities.createGameFromFEN(fen);
+	}
+
+	public static final class PerftPosition {
+
+		private final String name;
+		private final Supplier<Board> boardSupplier;
+		private final long[] expectedNodes;
+
+		PerftPosition(final String name, final Supplier<Board> boardSupplier, final long... expectedNodes) {
+			this.name = name;
+			this.boardSupplier = boardSupplier;
+			this.expectedNodes = expectedNodes;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public Board createBoard() {
+			return this.boardSupplier.get();
+		}
+
+		public int getMaxDepth() {
+			return this.expectedNodes.length;
+		}
+
+		public long getExpectedNodes(final int depth) {
+			return this.expectedNodes[depth - 1];
+		}
+
+	}
+
+}
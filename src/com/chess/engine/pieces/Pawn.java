@@ -1,9 +1,9 @@
 package com.chess.engine.pieces;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 
+import com.chess.engine.board.AttackTables;
+import com.chess.engine.board.BitBoard;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.BoardUtils;
 import com.chess.engine.move.Move;
@@ -11,12 +11,11 @@ import com.chess.engine.move.Move.PawnAttackMove;
 import com.chess.engine.move.Move.PawnEnPassantAttackMove;
 import com.chess.engine.move.Move.PawnJump;
 import com.chess.engine.move.Move.PawnMove;
+import com.chess.engine.move.Move.PawnPromotion;
 import com.chess.engine.player.Alliance;
 
 public class Pawn extends Piece {
 
-	private static final int[] CANDIDATE_OFFSETS = { 7, 8, 9, 16 };
-	
 	public Pawn(final Alliance ally, final int position, final boolean isFirstMove) {
 		super(Piece.Type.PAWN, ally, position, isFirstMove);
 	}
@@ -26,80 +25,50 @@ public class Pawn extends Piece {
 	}
 	
 	@Override
-	public Collection<Move> calculateLegalMoves(final Board board) {
-		final Collection<Move> legalMoves = new ArrayList<Move>();
-		for(final int offset : CANDIDATE_OFFSETS) {
-			final int destination = position + offset * ally.getDirection();
-			
-			if(!BoardUtils.isValidTile(destination)) continue;
-			
-			if(offset == 8 && !board.getTile(destination).isOccupied()) {
-				// TODO: Deal with promotions!
+	public void calculateLegalMoves(final Board board, final Collection<Move> legalMoves) {
+		final int destination = position + ally.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+		if(BoardUtils.isValidTile(destination) && !board.isOccupied(destination)) {
+			if(ally.isPawnPromotionSquare(destination)) {
+				addPromotions(legalMoves, new PawnMove(board, this, destination));
+			}else {
 				legalMoves.add(new PawnMove(board, this, destination));
-			}else if(offset == 16 && isFirstMove() && 
-					((BoardUtils.SECOND_ROW[position] && ally.isBlack()) || 
-					 (BoardUtils.SEVENTH_ROW[position] && ally.isWhite()))) {
-				final int behindDestination = position + ally.getDirection() * 8;
-				if(!board.getTile(behindDestination).isOccupied() && !board.getTile(destination).isOccupied()) {
-					legalMoves.add(new PawnJump(board, this, destination));
-				}
-			}else if(offset == 7 &&
-					!((BoardUtils.EIGHTH_COLUMN[position] && ally.isWhite()) || 
-					 (BoardUtils.FIRST_COLUMN[position] && ally.isBlack()))) {
-				if(board.getTile(destination).isOccupied()) {
-					final Piece piece = board.getTile(destination).getPiece();
-					if(piece.ally != ally) {
-						// TODO: Attack into pawn promotion!
-						legalMoves.add(new PawnAttackMove(board, this, destination, piece));
-					}
-				}else if(board.getEnPassantPawn() != null) {
-					final Pawn pawn = board.getEnPassantPawn();
-					if(pawn.getPosition() == (position + ally.getOppositeDirection())) {
-						if(ally != pawn.ally) {
-							legalMoves.add(new PawnEnPassantAttackMove(board, this, destination, pawn));
-						}
-					}
-				}
-			}else if(offset == 9 &&
-					!((BoardUtils.FIRST_COLUMN[position] && ally.isWhite()) ||
-					 (BoardUtils.EIGHTH_COLUMN[position] && ally.isBlack()))) {
-				if(board.getTile(destination).isOccupied()) {
-					final Piece piece = board.getTile(destination).getPiece();
-					if(piece.ally != ally) {
-						// TODO: Attack into pawn promotion!
-						legalMoves.add(new PawnAttackMove(board, this, destination, piece));
-					}
-				}else if(board.getEnPassantPawn() != null) {
-					final Pawn pawn = board.getEnPassantPawn();
-					if(pawn.position == (position - ally.getOppositeDirection())) {
-						if(ally != pawn.ally) {
-							legalMoves.add(new PawnEnPassantAttackMove(board, this, destination, pawn));
-						}
-					}
-				}
+			}
+			final int jumpDestination = destination + ally.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+			if(isFirstMove() &&
+					((BoardUtils.SECOND_ROW[position] && ally.isBlack()) ||
+					 (BoardUtils.SEVENTH_ROW[position] && ally.isWhite())) &&
+					!board.isOccupied(jumpDestination)) {
+				legalMoves.add(new PawnJump(board, this, jumpDestination));
+			}
+		}
+		
+		final long attacks = AttackTables.pawnAttacks(ally, position);
+		long destinations = attacks & board.getOccupancy() & ~board.getOccupancy(ally);
+		for(; destinations != BitBoard.EMPTY; destinations = BitBoard.clearFirstSquare(destinations)) {
+			final int attackDestination = BitBoard.firstSquare(destinations);
+			final Move attackMove = new PawnAttackMove(board, this, attackDestination, board.getPiece(attackDestination));
+			if(ally.isPawnPromotionSquare(attackDestination)) {
+				addPromotions(legalMoves, attackMove);
+			}else {
+				legalMoves.add(attackMove);
+			}
+		}
+		
+		final Pawn enPassantPawn = board.getEnPassantPawn();
+		if(enPassantPawn != null && enPassantPawn.ally != ally) {
+			final int enPassantDestination = enPassantPawn.position - enPassantPawn.ally.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+			if(BitBoard.isSet(attacks, enPassantDestination)) {
+				legalMoves.add(new PawnEnPassantAttackMove(board, this, enPassantDestination, enPassantPawn));
 			}
 		}
-		return Collections.unmodifiableCollection(legalMoves);
-	}
-	
-	@Override
-	public boolean isFirstColumnExclusion(final int position, final int offset) {
-		return false;
-	}
-	
-	@Override
-	public boolean isSecondColumnExclusion(final int position, final int offset) {
-		return false;
-	}
-	
-	@Override
-	public boolean isSeventhColumnExclusion(final int position, final int offset) {
-		return false;
 	}
 	
-	@Override
-	public boolean isEighthColumnExclusion(final int position, final int offset) {
-		return false;
+	private void addPromotions(final Collection<Move> legalMoves, final Move move) {
+		final int destination = move.getDestination();
+		legalMoves.add(new PawnPromotion(move, new Queen(ally, destination, false)));
+		legalMoves.add(new PawnPromotion(move, new Rook(ally, destination, false)));
+		legalMoves.add(new PawnPromotion(move, new Bishop(ally, destination, false)));
+		legalMoves.add(new PawnPromotion(move, new Knight(ally, destination, false)));
 	}
 	
 	@Override
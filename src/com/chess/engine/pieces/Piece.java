@@ -1,7 +1,8 @@
 package com.chess.engine.pieces;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Objects;
+import java.util.Collections;
 
 import com.chess.engine.board.Board;
 import com.chess.engine.move.Move;
@@ -67,7 +68,10 @@ public abstract class Piece {
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(type, ally, position, isFirstMove);
+		int result = this.type.hashCode();
+		result = 31 * result + this.ally.hashCode();
+		result = 31 * result + this.position;
+		return 31 * result + (this.isFirstMove ? 1 : 0);
 	}
 	
 	@Override
@@ -91,18 +95,13 @@ public abstract class Piece {
 		return this.isFirstMove;
 	}
 	
-	public boolean hasExclusion(final int position, final int offset) {
-		return isFirstColumnExclusion(position, offset) ||
-				isSecondColumnExclusion(position, offset) ||
-				isSeventhColumnExclusion(position, offset) ||
-				isEighthColumnExclusion(position, offset);
+	public Collection<Move> calculateLegalMoves(final Board board) {
+		final Collection<Move> legalMoves = new ArrayList<Move>();
+		calculateLegalMoves(board, legalMoves);
+		return Collections.unmodifiableCollection(legalMoves);
 	}
 	
-	public abstract Collection<Move> calculateLegalMoves(final Board board);
-	public abstract boolean isFirstColumnExclusion(final int position, final int offset);
-	public abstract boolean isSecondColumnExclusion(final int position, final int offset);
-	public abstract boolean isSeventhColumnExclusion(final int position, final int offset);
-	public abstract boolean isEighthColumnExclusion(final int position, final int offset);
+	public abstract void calculateLegalMoves(final Board board, final Collection<Move> legalMoves);
 	public abstract Piece makeMove(final int destination);
 	
 	public static int compare(final Piece p1, final Piece p2) {
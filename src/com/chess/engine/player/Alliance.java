@@ -1,17 +1,29 @@
 package com.chess.engine.player;
 
+import com.chess.engine.board.BoardUtils;
+
 public enum Alliance {
 	WHITE{
 		@Override
 		public int getDirection() {
 			return -1;
 		}
+		
+		@Override
+		public boolean isPawnPromotionSquare(final int position) {
+			return BoardUtils.FIRST_ROW[position];
+		}
 	},
 	BLACK{
 		@Override
 		public int getDirection() {
 			return 1;
 		}
+		
+		@Override
+		public boolean isPawnPromotionSquare(final int position) {
+			return BoardUtils.EIGHTH_ROW[position];
+		}
 	};
 	public boolean isBlack() {
 		return this == BLACK;
@@ -21,6 +33,10 @@ public enum Alliance {
 		return this == WHITE;
 	}
 	
+	public Alliance getOpposite() {
+		return this == WHITE ? BLACK : WHITE;
+	}
+	
 	public Player choosePlayer(final WhitePlayer whitePlayer, final BlackPlayer blackPlayer) {
 		return this == WHITE ? whitePlayer : blackPlayer;
 	}
@@ -30,4 +46,5 @@ public enum Alliance {
 	}
 	
 	public abstract int getDirection();
+	public abstract boolean isPawnPromotionSquare(final int position);
 }
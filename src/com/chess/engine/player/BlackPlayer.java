@@ -14,8 +14,8 @@ import com.chess.engine.pieces.Rook;
 
 public class BlackPlayer extends Player {
 
-	public BlackPlayer(final Board board, final Collection<Move> legalMoves, final Collection<Move> opponentLegalMoves) {
-		super(board, legalMoves, opponentLegalMoves);
+	public BlackPlayer(final Board board) {
+		super(board);
 	}
 	
 	@Override
@@ -34,14 +34,14 @@ public class BlackPlayer extends Player {
 	}
 	
 	@Override
-	protected Collection<Move> calculateKingCastles(final Collection<Move> legalMoves, final Collection<Move> opponentLegalMoves) {
+	protected Collection<Move> calculateKingCastles() {
 		final Collection<Move> kingCastles = new ArrayList<Move>();
 		if(this.king.isFirstMove() && !this.isInCheck()) {
 			if(!this.board.getTile(5).isOccupied() && !this.board.getTile(6).isOccupied()) {
 				final Tile rookTile = this.board.getTile(7);
 				if(rookTile.isOccupied() && rookTile.getPiece().isFirstMove()) {
-					if(Player.calculateAttacksOnTile(5, opponentLegalMoves).isEmpty() &&
-						Player.calculateAttacksOnTile(6, opponentLegalMoves).isEmpty() &&
+					if(!isTileAttacked(5) &&
+						!isTileAttacked(6) &&
 						rookTile.getPiece().getType().isRook()) {
 						kingCastles.add(new KingSideCastleMove(board, king, 6, (Rook) rookTile.getPiece(), rookTile.getPosition(), 5));
 					}
@@ -50,8 +50,8 @@ public class BlackPlayer extends Player {
 			if(!this.board.getTile(3).isOccupied() && !this.board.getTile(2).isOccupied() && !this.board.getTile(1).isOccupied()) {
 				final Tile rookTile = this.board.getTile(0);
 				if(rookTile.isOccupied() && rookTile.getPiece().isFirstMove()) {
-					if(Player.calculateAttacksOnTile(2, opponentLegalMoves).isEmpty() &&
-						Player.calculateAttacksOnTile(3, opponentLegalMoves).isEmpty() &&
+					if(!isTileAttacked(2) &&
+						!isTileAttacked(3) &&
 						rookTile.getPiece().getType().isRook()) {
 						kingCastles.add(new QueenSideCastleMove(board, king, 2, (Rook) rookTile.getPiece(), rookTile.getPosition(), 3));
 					}
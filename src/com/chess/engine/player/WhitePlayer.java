@@ -14,8 +14,8 @@ import com.chess.engine.pieces.Rook;
 
 public class WhitePlayer extends Player {
 
-	public WhitePlayer(final Board board, final Collection<Move> legalMoves, final Collection<Move> opponentLegalMoves) {
-		super(board, legalMoves, opponentLegalMoves);
+	public WhitePlayer(final Board board) {
+		super(board);
 	}
 	
 	@Override
@@ -34,14 +34,14 @@ public class WhitePlayer extends Player {
 	}
 	
 	@Override
-	protected Collection<Move> calculateKingCastles(final Collection<Move> legalMoves, final Collection<Move> opponentLegalMoves) {
+	protected Collection<Move> calculateKingCastles() {
 		final Collection<Move> kingCastles = new ArrayList<Move>();
 		if(this.king.isFirstMove() && !this.isInCheck()) {
 			if(!this.board.getTile(61).isOccupied() && !this.board.getTile(62).isOccupied()) {
 				final Tile rookTile = this.board.getTile(63);
 				if(rookTile.isOccupied() && rookTile.getPiece().isFirstMove()) {
-					if(Player.calculateAttacksOnTile(61, opponentLegalMoves).isEmpty() &&
-						Player.calculateAttacksOnTile(62, opponentLegalMoves).isEmpty() &&
+					if(!isTileAttacked(61) &&
+						!isTileAttacked(62) &&
 						rookTile.getPiece().getType().isRook()) {
 						kingCastles.add(new KingSideCastleMove(board, king, 62, (Rook) rookTile.getPiece(), rookTile.getPosition(), 61));
 					}
@@ -50,8 +50,8 @@ public class WhitePlayer extends Player {
 			if(!this.board.getTile(59).isOccupied() && !this.board.getTile(58).isOccupied() && !this.board.getTile(57).isOccupied()) {
 				final Tile rookTile = this.board.getTile(56);
 				if(rookTile.isOccupied() && rookTile.getPiece().isFirstMove()) {
-					if(Player.calculateAttacksOnTile(58, opponentLegalMoves).isEmpty() &&
-						Player.calculateAttacksOnTile(59, opponentLegalMoves).isEmpty() &&
+					if(!isTileAttacked(58) &&
+						!isTileAttacked(59) &&
 						rookTile.getPiece().getType().isRook()) {
 						kingCastles.add(new QueenSideCastleMove(board, king, 58, (Rook) rookTile.getPiece(), rookTile.getPosition(), 59));
 					}
@@ -0,0 +1,367 @@
+package com.chess.engine.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.chess.engine.board.BitBoard;
+import com.chess.engine.board.Board;
+import com.chess.engine.move.EncodedMove;
+import com.chess.engine.move.Move;
+import com.chess.engine.move.MoveBuffer;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.Alliance;
+
+public class AlphaBetaSearch {
+
+	public static final int INFINITY = 32000;
+	public static final int MATE = 31000;
+	public static final int MATE_BOUND = MATE - 1000;
+	public static final int DRAW = 0;
+
+	protected static final int MAX_PLY = 128;
+	private static final int TIME_CHECK_INTERVAL = 1023;
+	private static final int DELTA_MARGIN = 200;
+
+	protected final BoardEvaluator evaluator;
+	protected final TranspositionTable transpositionTable;
+	protected final SearchOptions options;
+
+	private final Move[][] pvTable;
+	private final int[] pvLength;
+	private final long[] keyStack;
+	private final boolean[] nullMoves;
+	private final MoveOrdering ordering;
+	private final MovePicker[] movePickers;
+
+	private long nodes;
+	private long start;
+	private long deadline;
+	private volatile boolean stopped;
+	private boolean interruptible;
+
+	public AlphaBetaSearch(final BoardEvaluator evaluator, final TranspositionTable transpositionTable,
+			final SearchOptions options) {
+		this.evaluator = evaluator;
+		this.transpositionTable = transpositionTable;
+		this.options = options;
+		this.pvTable = new Move[MAX_PLY + 1][MAX_PLY + 1];
+		this.pvLength = new int[MAX_PLY + 1];
+		this.keyStack = new long[MAX_PLY + 1];
+		this.nullMoves = new boolean[MAX_PLY + 1];
+		this.ordering = new MoveOrdering(MAX_PLY);
+		this.movePickers = new MovePicker[MAX_PLY + 1];
+		final MoveBuffer moveBuffer = new MoveBuffer(MAX_PLY);
+		for(int ply = 0; ply <= MAX_PLY; ply++) {
+			this.movePickers[ply] = new MovePicker(moveBuffer, this.ordering, ply);
+		}
+	}
+
+	public AlphaBetaSearch(final BoardEvaluator evaluator, final TranspositionTable transpositionTable) {
+		this(evaluator, transpositionTable, SearchOptions.defaults());
+	}
+
+	public AlphaBetaSearch() {
+		this(new TaperedEvaluator(), new TranspositionTable());
+	}
+
+	public SearchResult search(final Board board, final SearchLimits limits) {
+		this.transpositionTable.newSearch();
+		prepare(limits, System.currentTimeMillis());
+		return iterate(board, limits, 1);
+	}
+
+	void prepare(final SearchLimits limits, final long start) {
+		this.start = start;
+		final long maxTime = limits.hasTimeLimit() ? limits.getMaxTimeMillis() : Long.MAX_VALUE;
+		this.deadline = maxTime > Long.MAX_VALUE - start ? Long.MAX_VALUE : start + maxTime;
+		this.nodes = 0;
+		this.stopped = false;
+		this.ordering.prepare();
+	}
+
+	SearchResult iterate(final Board board, final SearchLimits limits, final int firstDepth) {
+		SearchResult result = new SearchResult(new ArrayList<Move>(), DRAW, 0, 0, 0);
+		int previousScore = DRAW;
+		for(int depth = firstDepth; depth <= limits.getMaxDepth(); depth++) {
+			this.interruptible = depth > 1;
+			final int score = aspirationSearch(board, depth, previousScore);
+			if(isAborted()) {
+				break;
+			}
+			previousScore = score;
+			result = new SearchResult(getPrincipalVariation(), score, depth, this.nodes,
+					System.currentTimeMillis() - this.start);
+			if(Math.abs(score) >= MATE_BOUND || this.pvLength[0] == 0) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	private int aspirationSearch(final Board board, final int depth, final int previousScore) {
+		if(!this.options.isAspirationWindows() || depth < this.options.getAspirationMinDepth() ||
+				Math.abs(previousScore) >= MATE_BOUND) {
+			return negamax(board, depth, -INFINITY, INFINITY, 0);
+		}
+		int window = this.options.getAspirationWindow();
+		int alpha = Math.max(-INFINITY, previousScore - window);
+		int beta = Math.min(INFINITY, previousScore + window);
+		while(true) {
+			final int score = negamax(board, depth, alpha, beta, 0);
+			if(isAborted()) {
+				return score;
+			}
+			if(score <= alpha && alpha > -INFINITY) {
+				window *= 2;
+				alpha = Math.max(-INFINITY, score - window);
+			}else if(score >= beta && beta < INFINITY) {
+				window *= 2;
+				beta = Math.min(INFINITY, score + window);
+			}else {
+				return score;
+			}
+		}
+	}
+
+	public void stop() {
+		this.stopped = true;
+	}
+
+	public long getNodes() {
+		return this.nodes;
+	}
+
+	public TranspositionTable getTranspositionTable() {
+		return this.transpositionTable;
+	}
+
+	public SearchOptions getOptions() {
+		return this.options;
+	}
+
+	protected int negamax(final Board board, final int depth, final int alpha, final int beta, final int ply) {
+		this.pvLength[ply] = ply;
+		this.keyStack[ply] = board.getZobristKey();
+		if(ply > 0 && isRepetition(ply)) {
+			return DRAW;
+		}
+		if(depth <= 0) {
+			return quiescence(board, alpha, beta, ply);
+		}
+		countNode();
+		if(ply >= MAX_PLY) {
+			return this.evaluator.evaluate(board);
+		}
+
+		final long entry = this.transpositionTable.probe(board.getZobristKey());
+		int hashMove = EncodedMove.NONE;
+		if(entry != TranspositionTable.NO_ENTRY) {
+			hashMove = TranspositionTable.getMove(entry);
+			if(ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+				final int score = scoreFromTable(TranspositionTable.getScore(entry), ply);
+				final int bound = TranspositionTable.getBound(entry);
+				if(bound == TranspositionTable.EXACT ||
+						bound == TranspositionTable.LOWER_BOUND && score >= beta ||
+						bound == TranspositionTable.UPPER_BOUND && score <= alpha) {
+					return score;
+				}
+			}
+		}
+
+		final boolean inCheck = isInCheck(board);
+		final boolean pruningNode = ply > 0 && !inCheck && beta - alpha == 1 && Math.abs(beta) < MATE_BOUND;
+		final int staticEval = pruningNode ? this.evaluator.evaluate(board) : -INFINITY;
+
+		if(pruningNode && this.options.isRazoring() && depth <= this.options.getRazoringMaxDepth() &&
+				staticEval + this.options.getRazoringMargin() * depth <= alpha) {
+			final int score = quiescence(board, alpha, beta, ply);
+			if(score <= alpha) {
+				return score;
+			}
+		}
+
+		if(pruningNode && this.options.isNullMovePruning() && depth >= this.options.getNullMoveMinDepth() &&
+				staticEval >= beta && !this.nullMoves[ply - 1] && hasNonPawnMaterial(board)) {
+			this.nullMoves[ply] = true;
+			final Board nullBoard = Move.MoveFactory.createNullMove(board).execute();
+			final int score = -negamax(nullBoard, depth - 1 - this.options.getNullMoveReduction(), -beta, -beta + 1,
+					ply + 1);
+			this.nullMoves[ply] = false;
+			if(isAborted()) {
+				return DRAW;
+			}
+			if(score >= beta) {
+				return score >= MATE_BOUND ? beta : score;
+			}
+		}
+
+		final MovePicker movePicker = this.movePickers[ply];
+		if(movePicker.init(board, hashMove) == 0) {
+			return inCheck ? -MATE + ply : DRAW;
+		}
+
+		final boolean futile = pruningNode && this.options.isFutilityPruning() &&
+				depth <= this.options.getFutilityMaxDepth() &&
+				staticEval + this.options.getFutilityMargin() * depth <= alpha;
+		final boolean reduceLateMoves = !inCheck && this.options.isLateMoveReductions() &&
+				depth >= this.options.getLateMoveMinDepth();
+		int bestScore = -INFINITY;
+		int bestMove = EncodedMove.NONE;
+		int currentAlpha = alpha;
+		int movesSearched = 0;
+		for(int encodedMove = movePicker.next(); encodedMove != EncodedMove.NONE; encodedMove = movePicker.next()) {
+			final Move move = EncodedMove.createMove(board, encodedMove);
+			final Board child = move.execute();
+			final boolean reducible = movesSearched > 0 && !MoveOrdering.isTactical(encodedMove) &&
+					(futile || reduceLateMoves && movesSearched >= this.options.getLateMoveThreshold()) &&
+					!isInCheck(child);
+			if(reducible && futile) {
+				continue;
+			}
+			movesSearched++;
+			int score;
+			if(reducible) {
+				score = -negamax(child, depth - 1 - this.options.getLateMoveReduction(), -currentAlpha - 1,
+						-currentAlpha, ply + 1);
+				if(score > currentAlpha) {
+					score = -negamax(child, depth - 1, -beta, -currentAlpha, ply + 1);
+				}
+			}else {
+				score = -negamax(child, depth - 1, -beta, -currentAlpha, ply + 1);
+			}
+			if(isAborted()) {
+				return DRAW;
+			}
+			if(score > bestScore) {
+				bestScore = score;
+				bestMove = encodedMove;
+				if(score > currentAlpha) {
+					currentAlpha = score;
+					updatePrincipalVariation(move, ply);
+					if(score >= beta) {
+						if(!MoveOrdering.isTactical(encodedMove)) {
+							this.ordering.updateQuietHeuristics(encodedMove, depth, ply);
+						}
+						break;
+					}
+				}
+			}
+		}
+
+		final int bound = bestScore >= beta ? TranspositionTable.LOWER_BOUND :
+			bestScore > alpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+		this.transpositionTable.store(board.getZobristKey(), bestMove, scoreToTable(bestScore, ply), depth, bound);
+		return bestScore;
+	}
+
+	protected int quiescence(final Board board, final int alpha, final int beta, final int ply) {
+		this.pvLength[ply] = ply;
+		countNode();
+		final boolean inCheck = isInCheck(board);
+		final int standPat = inCheck ? -INFINITY : this.evaluator.evaluate(board);
+		if(ply >= MAX_PLY) {
+			return inCheck ? this.evaluator.evaluate(board) : standPat;
+		}
+		if(standPat >= beta) {
+			return standPat;
+		}
+
+		final MovePicker movePicker = this.movePickers[ply];
+		final int count = inCheck ? movePicker.init(board, EncodedMove.NONE) : movePicker.initTactical(board);
+		if(count == 0 && inCheck) {
+			return -MATE + ply;
+		}
+		int bestScore = standPat;
+		int currentAlpha = Math.max(alpha, standPat);
+		for(int encodedMove = movePicker.next(); encodedMove != EncodedMove.NONE; encodedMove = movePicker.next()) {
+			if(!inCheck) {
+				final Piece.Type capturedType = EncodedMove.getCapturedType(encodedMove);
+				if(!EncodedMove.isPromotion(encodedMove) && capturedType != null &&
+						standPat + capturedType.getValue() + DELTA_MARGIN <= currentAlpha) {
+					continue;
+				}
+				if(!StaticExchange.isAtLeast(board, encodedMove, 0)) {
+					continue;
+				}
+			}
+			final Move move = EncodedMove.createMove(board, encodedMove);
+			final int score = -quiescence(move.execute(), -beta, -currentAlpha, ply + 1);
+			if(isAborted()) {
+				return DRAW;
+			}
+			if(score > bestScore) {
+				bestScore = score;
+				if(score > currentAlpha) {
+					currentAlpha = score;
+					if(score >= beta) {
+						break;
+					}
+				}
+			}
+		}
+		return bestScore;
+	}
+
+	private void countNode() {
+		if((++this.nodes & TIME_CHECK_INTERVAL) == 0 && System.currentTimeMillis() >= this.deadline) {
+			this.stopped = true;
+		}
+	}
+
+	private boolean isAborted() {
+		return this.stopped && this.interruptible;
+	}
+
+	private static boolean isInCheck(final Board board) {
+		final Alliance ally = board.getMoveMaker();
+		return board.getAttackers(BitBoard.firstSquare(board.getPieces(ally, Piece.Type.KING)), ally.getOpposite()) !=
+				BitBoard.EMPTY;
+	}
+
+	private static boolean hasNonPawnMaterial(final Board board) {
+		final Alliance ally = board.getMoveMaker();
+		return (board.getPieces(ally, Piece.Type.KNIGHT) | board.getPieces(ally, Piece.Type.BISHOP) |
+				board.getPieces(ally, Piece.Type.ROOK) | board.getPieces(ally, Piece.Type.QUEEN)) != BitBoard.EMPTY;
+	}
+
+	private boolean isRepetition(final int ply) {
+		for(int i = ply - 1; i >= 0; i--) {
+			if(this.nullMoves[i]) {
+				return false;
+			}
+			if(((ply - i) & 1) == 0 && this.keyStack[i] == this.keyStack[ply]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void updatePrincipalVariation(final Move move, final int ply) {
+		this.pvTable[ply][ply] = move;
+		for(int i = ply + 1; i < this.pvLength[ply + 1]; i++) {
+			this.pvTable[ply][i] = this.pvTable[ply + 1][i];
+		}
+		this.pvLength[ply] = Math.max(this.pvLength[ply + 1], ply + 1);
+	}
+
+	private List<Move> getPrincipalVariation() {
+		final List<Move> principalVariation = new ArrayList<Move>(this.pvLength[0]);
+		for(int i = 0; i < this.pvLength[0]; i++) {
+			principalVariation.add(this.pvTable[0][i]);
+		}
+		return principalVariation;
+	}
+
+	protected static int scoreToTable(final int score, final int ply) {
+		if(score >= MATE_BOUND) return score + ply;
+		if(score <= -MATE_BOUND) return score - ply;
+		return score;
+	}
+
+	protected static int scoreFromTable(final int score, final int ply) {
+		if(score >= MATE_BOUND) return score - ply;
+		if(score <= -MATE_BOUND) return score + ply;
+		return score;
+	}
+
+}
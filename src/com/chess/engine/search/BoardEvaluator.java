@@ -0,0 +1,9 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+
+public interface BoardEvaluator {
+
+	int evaluate(final Board board);
+
+}
@@ -0,0 +1,84 @@
+package com.chess.engine.search;
+
+import java.util.function.Supplier;
+
+import com.chess.engine.board.Board;
+
+public final class LazySmpSearch {
+
+	private final AlphaBetaSearch[] searches;
+	private final TranspositionTable transpositionTable;
+
+	public LazySmpSearch(final int threads, final Supplier<? extends BoardEvaluator> evaluatorFactory,
+			final TranspositionTable transpositionTable, final SearchOptions options) {
+		if(threads < 1) {
+			throw new RuntimeException(String.format("Invalid thread count: %d!", threads));
+		}
+		this.transpositionTable = transpositionTable;
+		this.searches = new AlphaBetaSearch[threads];
+		for(int i = 0; i < threads; i++) {
+			this.searches[i] = new AlphaBetaSearch(evaluatorFactory.get(), transpositionTable, options);
+		}
+	}
+
+	public LazySmpSearch(final int threads, final Supplier<? extends BoardEvaluator> evaluatorFactory,
+			final TranspositionTable transpositionTable) {
+		this(threads, evaluatorFactory, transpositionTable, SearchOptions.defaults());
+	}
+
+	public LazySmpSearch(final int threads) {
+		this(threads, TaperedEvaluator::new, new TranspositionTable());
+	}
+
+	public SearchResult search(final Board board, final SearchLimits limits) {
+		final long start = System.currentTimeMillis();
+		this.transpositionTable.newSearch();
+		for(final AlphaBetaSearch search : this.searches) {
+			search.prepare(limits, start);
+		}
+
+		final Thread[] helpers = new Thread[this.searches.length - 1];
+		for(int i = 0; i < helpers.length; i++) {
+			final AlphaBetaSearch helper = this.searches[i + 1];
+			final Board helperBoard = board.copy();
+			final int firstDepth = 1 + (i + 1) % 2;
+			helpers[i] = new Thread(() -> helper.iterate(helperBoard, limits, firstDepth), "LazySMP-helper-" + (i + 1));
+			helpers[i].setDaemon(true);
+			helpers[i].start();
+		}
+
+		final SearchResult result = this.searches[0].iterate(board, limits, 1);
+		for(int i = 1; i < this.searches.length; i++) {
+			this.searches[i].stop();
+		}
+		for(final Thread helper : helpers) {
+			try {
+				helper.join();
+			}catch(final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		final long[] threadNodes = new long[this.searches.length];
+		for(int i = 0; i < threadNodes.length; i++) {
+			threadNodes[i] = this.searches[i].getNodes();
+		}
+		return new SearchResult(result.getPrincipalVariation(), result.getScore(), result.getDepth(), threadNodes,
+				System.currentTimeMillis() - start);
+	}
+
+	public void stop() {
+		for(final AlphaBetaSearch search : this.searches) {
+			search.stop();
+		}
+	}
+
+	public int getThreadCount() {
+		return this.searches.length;
+	}
+
+	public TranspositionTable getTranspositionTable() {
+		return this.transpositionTable;
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.BitBoard;
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.Alliance;
+
+public final class MaterialEvaluator implements BoardEvaluator {
+
+	@Override
+	public int evaluate(final Board board) {
+		final int score = material(board, Alliance.WHITE) - material(board, Alliance.BLACK);
+		return board.getMoveMaker().isWhite() ? score : -score;
+	}
+
+	private static int material(final Board board, final Alliance ally) {
+		int material = 0;
+		for(final Piece.Type type : Piece.Type.values()) {
+			if(!type.isKing()) {
+				material += BitBoard.count(board.getPieces(ally, type)) * type.getValue();
+			}
+		}
+		return material;
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.chess.engine.search;
+
+import java.util.Arrays;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.move.EncodedMove;
+import com.chess.engine.pieces.Piece;
+
+public final class MoveOrdering {
+
+	private static final int NUM_KILLERS = 2;
+	private static final int MAX_HISTORY = 1 << 20;
+
+	private final int[][] killers;
+	private final int[][] history;
+
+	public MoveOrdering(final int maxPly) {
+		this.killers = new int[maxPly + 1][NUM_KILLERS];
+		this.history = new int[BoardUtils.NUM_TILES][BoardUtils.NUM_TILES];
+	}
+
+	public void prepare() {
+		for(final int[] killers : this.killers) {
+			Arrays.fill(killers, EncodedMove.NONE);
+		}
+		for(final int[] history : this.history) {
+			for(int i = 0; i < history.length; i++) {
+				history[i] /= 2;
+			}
+		}
+	}
+
+	public int getKiller(final int ply, final int slot) {
+		return this.killers[ply][slot];
+	}
+
+	public int getNumKillers() {
+		return NUM_KILLERS;
+	}
+
+	public int getHistory(final int move) {
+		return this.history[EncodedMove.getPosition(move)][EncodedMove.getDestination(move)];
+	}
+
+	public void updateQuietHeuristics(final int move, final int depth, final int ply) {
+		final int[] killers = this.killers[ply];
+		if(killers[0] != move) {
+			killers[1] = killers[0];
+			killers[0] = move;
+		}
+		final int[] history = this.history[EncodedMove.getPosition(move)];
+		final int destination = EncodedMove.getDestination(move);
+		history[destination] = Math.min(MAX_HISTORY, history[destination] + depth * depth);
+	}
+
+	public static boolean isTactical(final int move) {
+		return EncodedMove.isCapture(move) || EncodedMove.isPromotion(move);
+	}
+
+	public static int mvvLva(final Board board, final int move) {
+		final Piece.Type capturedType = EncodedMove.getCapturedType(move);
+		final Piece.Type promotionType = EncodedMove.getPromotionType(move);
+		int gain = capturedType == null ? 0 : capturedType.getValue();
+		if(promotionType != null) {
+			gain += promotionType.getValue() - Piece.Type.PAWN.getValue();
+		}
+		return gain * 100 - board.getPiece(EncodedMove.getPosition(move)).getType().getValue();
+	}
+
+}
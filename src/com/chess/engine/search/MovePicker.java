@@ -0,0 +1,141 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.move.EncodedMove;
+import com.chess.engine.move.MoveBuffer;
+
+public final class MovePicker {
+
+	private static final int HASH_MOVE = 0;
+	private static final int SCORE_TACTICAL = 1;
+	private static final int TACTICAL = 2;
+	private static final int KILLERS = 3;
+	private static final int SCORE_QUIET = 4;
+	private static final int QUIET = 5;
+	private static final int DONE = 6;
+
+	private final MoveBuffer moveBuffer;
+	private final MoveOrdering ordering;
+	private final int ply;
+
+	private Board board;
+	private int[] moves;
+	private int[] scores;
+	private int hashMove;
+	private int stage;
+	private int index;
+	private int tacticalEnd;
+	private int killer;
+	private int count;
+
+	public MovePicker(final MoveBuffer moveBuffer, final MoveOrdering ordering, final int ply) {
+		this.moveBuffer = moveBuffer;
+		this.ordering = ordering;
+		this.ply = ply;
+	}
+
+	public int init(final Board board, final int hashMove) {
+		return init(board, hashMove, this.moveBuffer.generate(board, this.ply));
+	}
+
+	public int initTactical(final Board board) {
+		return init(board, EncodedMove.NONE, this.moveBuffer.generateTactical(board, this.ply));
+	}
+
+	private int init(final Board board, final int hashMove, final int count) {
+		this.board = board;
+		this.count = count;
+		this.moves = this.moveBuffer.getMoves(this.ply);
+		this.scores = this.moveBuffer.getScores(this.ply);
+		this.hashMove = hashMove;
+		this.stage = HASH_MOVE;
+		this.index = 0;
+		this.killer = 0;
+		return this.count;
+	}
+
+	@SuppressWarnings("fallthrough")
+	public int next() {
+		switch(this.stage) {
+			case HASH_MOVE:
+				this.stage = SCORE_TACTICAL;
+				if(this.hashMove != EncodedMove.NONE) {
+					for(int i = 0; i < this.count; i++) {
+						if(EncodedMove.toShortMove(this.moves[i]) == this.hashMove) {
+							swap(this.index, i);
+							return this.moves[this.index++];
+						}
+					}
+				}
+				// fall through
+			case SCORE_TACTICAL:
+				this.tacticalEnd = this.index;
+				for(int i = this.index; i < this.count; i++) {
+					if(MoveOrdering.isTactical(this.moves[i])) {
+						swap(this.tacticalEnd, i);
+						this.scores[this.tacticalEnd] = MoveOrdering.mvvLva(this.board, this.moves[this.tacticalEnd]);
+						this.tacticalEnd++;
+					}
+				}
+				this.stage = TACTICAL;
+				// fall through
+			case TACTICAL:
+				if(this.index < this.tacticalEnd) {
+					selectBest(this.tacticalEnd);
+					return this.moves[this.index++];
+				}
+				this.stage = KILLERS;
+				// fall through
+			case KILLERS:
+				while(this.killer < this.ordering.getNumKillers()) {
+					final int killer = this.ordering.getKiller(this.ply, this.killer++);
+					if(killer == EncodedMove.NONE) {
+						continue;
+					}
+					for(int i = this.index; i < this.count; i++) {
+						if(this.moves[i] == killer) {
+							swap(this.index, i);
+							return this.moves[this.index++];
+						}
+					}
+				}
+				this.stage = SCORE_QUIET;
+				// fall through
+			case SCORE_QUIET:
+				for(int i = this.index; i < this.count; i++) {
+					this.scores[i] = this.ordering.getHistory(this.moves[i]);
+				}
+				this.stage = QUIET;
+				// fall through
+			case QUIET:
+				if(this.index < this.count) {
+					selectBest(this.count);
+					return this.moves[this.index++];
+				}
+				this.stage = DONE;
+				// fall through
+			default:
+				return EncodedMove.NONE;
+		}
+	}
+
+	private void selectBest(final int end) {
+		int best = this.index;
+		for(int i = this.index + 1; i < end; i++) {
+			if(this.scores[i] > this.scores[best]) {
+				best = i;
+			}
+		}
+		swap(this.index, best);
+	}
+
+	private void swap(final int i, final int j) {
+		final int move = this.moves[i];
+		this.moves[i] = this.moves[j];
+		this.moves[j] = move;
+		final int score = this.scores[i];
+		this.scores[i] = this.scores[j];
+		this.scores[j] = score;
+	}
+
+}
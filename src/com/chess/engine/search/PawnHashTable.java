@@ -0,0 +1,107 @@
+package com.chess.engine.search;
+
+import java.util.Arrays;
+
+import com.chess.engine.player.Alliance;
+
+public final class PawnHashTable {
+
+	public static final int NOT_FOUND = -1;
+	public static final int DEFAULT_SIZE_MB = 1;
+
+	private static final int BYTES_PER_ENTRY = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+	private final long[] keys;
+	private final int[] scores;
+	private final long[] passedPawns;
+	private final int indexMask;
+
+	private long probes;
+	private long hits;
+
+	public PawnHashTable(final int sizeInMB) {
+		if(sizeInMB <= 0) {
+			throw new RuntimeException(String.format("Invalid pawn hash table size: %d MB!", sizeInMB));
+		}
+		final int entries = Integer.highestOneBit((int) Math.min((long) sizeInMB * 1024 * 1024 / BYTES_PER_ENTRY,
+				Integer.MAX_VALUE / 2));
+		this.keys = new long[entries];
+		this.scores = new int[entries];
+		this.passedPawns = new long[2 * entries];
+		this.indexMask = entries - 1;
+	}
+
+	public PawnHashTable() {
+		this(DEFAULT_SIZE_MB);
+	}
+
+	public int probe(final long pawnKey) {
+		this.probes++;
+		final int index = indexOf(pawnKey);
+		if(this.keys[index] == pawnKey) {
+			this.hits++;
+			return index;
+		}
+		return NOT_FOUND;
+	}
+
+	public int store(final long pawnKey, final int score, final long whitePassedPawns, final long blackPassedPawns) {
+		final int index = indexOf(pawnKey);
+		this.keys[index] = pawnKey;
+		this.scores[index] = score;
+		this.passedPawns[2 * index] = whitePassedPawns;
+		this.passedPawns[2 * index + 1] = blackPassedPawns;
+		return index;
+	}
+
+	public int getScore(final int index) {
+		return this.scores[index];
+	}
+
+	public long getPassedPawns(final int index, final Alliance ally) {
+		return this.passedPawns[2 * index + ally.ordinal()];
+	}
+
+	public void clear() {
+		Arrays.fill(this.keys, 0L);
+		Arrays.fill(this.scores, 0);
+		Arrays.fill(this.passedPawns, 0L);
+		resetStatistics();
+	}
+
+	public void resetStatistics() {
+		this.probes = 0;
+		this.hits = 0;
+	}
+
+	public int getCapacity() {
+		return this.keys.length;
+	}
+
+	public long getProbes() {
+		return this.probes;
+	}
+
+	public long getHits() {
+		return this.hits;
+	}
+
+	public long getMisses() {
+		return this.probes - this.hits;
+	}
+
+	public double getHitRate() {
+		return this.probes == 0 ? 0 : (double) this.hits / this.probes;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PawnHashTable[Entries: %d, Probes: %d, Hits: %d, Misses: %d, HitRate: %.2f%%]",
+				getCapacity(), this.probes, this.hits, getMisses(), 100 * getHitRate());
+	}
+
+	private int indexOf(final long pawnKey) {
+		return (int) (pawnKey ^ pawnKey >>> 32) & this.indexMask;
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.BitBoard;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.PieceSquareTables;
+import com.chess.engine.player.Alliance;
+
+public final class PawnStructure {
+
+	private static final int DOUBLED_PENALTY = PieceSquareTables.pack(-10, -20);
+	private static final int ISOLATED_PENALTY = PieceSquareTables.pack(-10, -15);
+	private static final int[] PASSED_BONUS = {
+		PieceSquareTables.pack(0, 0), PieceSquareTables.pack(5, 10), PieceSquareTables.pack(10, 20),
+		PieceSquareTables.pack(15, 35), PieceSquareTables.pack(25, 60), PieceSquareTables.pack(40, 90),
+		PieceSquareTables.pack(60, 130), PieceSquareTables.pack(0, 0)
+	};
+	private static final int SHIELD_BONUS = PieceSquareTables.pack(10, 0);
+	private static final int FAR_SHIELD_BONUS = PieceSquareTables.pack(5, 0);
+
+	private static final long[] FILES = new long[BoardUtils.NUM_TILES_PER_ROW];
+	private static final long[] ADJACENT_FILES = new long[BoardUtils.NUM_TILES_PER_ROW];
+	private static final long[][] FRONT_SPANS = new long[2][BoardUtils.NUM_TILES];
+	private static final long[][] PASSED_SPANS = new long[2][BoardUtils.NUM_TILES];
+	private static final long[][] SHIELDS = new long[2][BoardUtils.NUM_TILES];
+	private static final long[][] FAR_SHIELDS = new long[2][BoardUtils.NUM_TILES];
+
+	static {
+		for(int position = 0; position < BoardUtils.NUM_TILES; position++) {
+			FILES[position % BoardUtils.NUM_TILES_PER_ROW] |= BitBoard.squareMask(position);
+		}
+		for(int file = 0; file < BoardUtils.NUM_TILES_PER_ROW; file++) {
+			ADJACENT_FILES[file] = (file > 0 ? FILES[file - 1] : BitBoard.EMPTY) |
+				(file < BoardUtils.NUM_TILES_PER_ROW - 1 ? FILES[file + 1] : BitBoard.EMPTY);
+		}
+		for(final Alliance ally : Alliance.values()) {
+			final int a = ally.ordinal();
+			for(int position = 0; position < BoardUtils.NUM_TILES; position++) {
+				final int row = position / BoardUtils.NUM_TILES_PER_ROW;
+				final int file = position % BoardUtils.NUM_TILES_PER_ROW;
+				long front = BitBoard.EMPTY;
+				for(int r = row + ally.getDirection(); r >= 0 && r < BoardUtils.NUM_TILES_PER_ROW; r += ally.getDirection()) {
+					front |= rowMask(r);
+				}
+				FRONT_SPANS[a][position] = front & FILES[file];
+				PASSED_SPANS[a][position] = front & (FILES[file] | ADJACENT_FILES[file]);
+				SHIELDS[a][position] = rowMask(row + ally.getDirection()) & (FILES[file] | ADJACENT_FILES[file]);
+				FAR_SHIELDS[a][position] = rowMask(row + 2 * ally.getDirection()) & (FILES[file] | ADJACENT_FILES[file]);
+			}
+		}
+	}
+
+	private PawnStructure() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static long calculatePassedPawns(final Alliance ally, final long pawns, final long opponentPawns) {
+		final int a = ally.ordinal();
+		long passed = BitBoard.EMPTY;
+		for(long mask = pawns; mask != BitBoard.EMPTY; mask = BitBoard.clearFirstSquare(mask)) {
+			final int position = BitBoard.firstSquare(mask);
+			if((PASSED_SPANS[a][position] & opponentPawns) == BitBoard.EMPTY &&
+					(FRONT_SPANS[a][position] & pawns) == BitBoard.EMPTY) {
+				passed |= BitBoard.squareMask(position);
+			}
+		}
+		return passed;
+	}
+
+	public static int evaluate(final long whitePawns, final long blackPawns, final long whitePassedPawns,
+			final long blackPassedPawns) {
+		return evaluate(Alliance.WHITE, whitePawns, whitePassedPawns) -
+			evaluate(Alliance.BLACK, blackPawns, blackPassedPawns);
+	}
+
+	public static int evaluateKingShield(final Alliance ally, final int kingPosition, final long pawns) {
+		final int a = ally.ordinal();
+		return BitBoard.count(SHIELDS[a][kingPosition] & pawns) * SHIELD_BONUS +
+			BitBoard.count(FAR_SHIELDS[a][kingPosition] & pawns) * FAR_SHIELD_BONUS;
+	}
+
+	private static int evaluate(final Alliance ally, final long pawns, final long passedPawns) {
+		final int a = ally.ordinal();
+		int score = 0;
+		for(long mask = pawns; mask != BitBoard.EMPTY; mask = BitBoard.clearFirstSquare(mask)) {
+			final int position = BitBoard.firstSquare(mask);
+			final int file = position % BoardUtils.NUM_TILES_PER_ROW;
+			if((FRONT_SPANS[a][position] & pawns) != BitBoard.EMPTY) {
+				score += DOUBLED_PENALTY;
+			}
+			if((ADJACENT_FILES[file] & pawns) == BitBoard.EMPTY) {
+				score += ISOLATED_PENALTY;
+			}
+			if(BitBoard.isSet(passedPawns, position)) {
+				score += PASSED_BONUS[relativeRank(ally, position)];
+			}
+		}
+		return score;
+	}
+
+	private static int relativeRank(final Alliance ally, final int position) {
+		final int row = position / BoardUtils.NUM_TILES_PER_ROW;
+		return ally.isWhite() ? BoardUtils.NUM_TILES_PER_ROW - 1 - row : row;
+	}
+
+	private static long rowMask(final int row) {
+		if(row < 0 || row >= BoardUtils.NUM_TILES_PER_ROW) {
+			return BitBoard.EMPTY;
+		}
+		return 0xFFL << (row * BoardUtils.NUM_TILES_PER_ROW);
+	}
+
+}
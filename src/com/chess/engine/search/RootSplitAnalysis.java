@@ -0,0 +1,154 @@
+package com.chess.engine.search;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.move.Move;
+import com.chess.engine.move.MoveTransition;
+import com.chess.engine.player.Player;
+
+public final class RootSplitAnalysis implements AutoCloseable {
+
+	public static final int DEFAULT_SPLIT_DEPTH = 1;
+
+	private final ForkJoinPool pool;
+	private final int splitDepth;
+	private final TranspositionTable transpositionTable;
+	private final ThreadLocal<AlphaBetaSearch> searches;
+
+	public RootSplitAnalysis(final int parallelism, final int splitDepth,
+			final Supplier<? extends BoardEvaluator> evaluatorFactory, final TranspositionTable transpositionTable,
+			final SearchOptions options) {
+		if(splitDepth < 1) {
+			throw new RuntimeException(String.format("Invalid split depth: %d!", splitDepth));
+		}
+		this.pool = new ForkJoinPool(parallelism);
+		this.splitDepth = splitDepth;
+		this.transpositionTable = transpositionTable;
+		this.searches = ThreadLocal.withInitial(() -> new AlphaBetaSearch(evaluatorFactory.get(), transpositionTable,
+				options));
+	}
+
+	public RootSplitAnalysis(final int parallelism, final Supplier<? extends BoardEvaluator> evaluatorFactory,
+			final TranspositionTable transpositionTable, final SearchOptions options) {
+		this(parallelism, DEFAULT_SPLIT_DEPTH, evaluatorFactory, transpositionTable, options);
+	}
+
+	public RootSplitAnalysis(final int parallelism, final Supplier<? extends BoardEvaluator> evaluatorFactory,
+			final TranspositionTable transpositionTable) {
+		this(parallelism, evaluatorFactory, transpositionTable, SearchOptions.defaults());
+	}
+
+	public RootSplitAnalysis(final int parallelism, final int splitDepth) {
+		this(parallelism, splitDepth, TaperedEvaluator::new, new TranspositionTable(), SearchOptions.defaults());
+	}
+
+	public RootSplitAnalysis(final int parallelism) {
+		this(parallelism, DEFAULT_SPLIT_DEPTH);
+	}
+
+	public Map<Move, Integer> analyse(final Board board, final int depth) {
+		if(depth < 1) {
+			throw new RuntimeException(String.format("Invalid analysis depth: %d!", depth));
+		}
+		this.transpositionTable.newSearch();
+		final Player player = board.getCurrentPlayer();
+		final Map<Move, SplitTask> tasks = new LinkedHashMap<Move, SplitTask>();
+		for(final Move move : player.getLegalMoves()) {
+			final MoveTransition transition = player.makeMove(move);
+			if(transition.getMoveStatus().isDone()) {
+				tasks.put(move, new SplitTask(transition.getBoard(), depth - 1, 1));
+			}
+		}
+		for(final SplitTask task : tasks.values()) {
+			this.pool.execute(task);
+		}
+		final List<Map.Entry<Move, Integer>> results = new ArrayList<Map.Entry<Move, Integer>>(tasks.size());
+		for(final Map.Entry<Move, SplitTask> entry : tasks.entrySet()) {
+			results.add(new SimpleImmutableEntry<Move, Integer>(entry.getKey(), negate(entry.getValue().join())));
+		}
+		Collections.sort(results, (e1, e2) -> Integer.compare(e2.getValue(), e1.getValue()));
+		final Map<Move, Integer> scores = new LinkedHashMap<Move, Integer>();
+		for(final Map.Entry<Move, Integer> result : results) {
+			scores.put(result.getKey(), result.getValue());
+		}
+		return scores;
+	}
+
+	public int getParallelism() {
+		return this.pool.getParallelism();
+	}
+
+	public int getSplitDepth() {
+		return this.splitDepth;
+	}
+
+	@Override
+	public void close() {
+		this.pool.shutdown();
+	}
+
+	private static int negate(final int score) {
+		if(score >= AlphaBetaSearch.MATE_BOUND) return -score + 1;
+		if(score <= -AlphaBetaSearch.MATE_BOUND) return -score - 1;
+		return -score;
+	}
+
+	private final class SplitTask extends RecursiveTask<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Board board;
+		private final int depth;
+		private final int ply;
+
+		private SplitTask(final Board board, final int depth, final int ply) {
+			this.board = board;
+			this.depth = depth;
+			this.ply = ply;
+		}
+
+		@Override
+		protected Integer compute() {
+			final Player player = this.board.getCurrentPlayer();
+			if(player.isInCheckMate()) {
+				return -AlphaBetaSearch.MATE;
+			}
+			if(player.isInStaleMate()) {
+				return AlphaBetaSearch.DRAW;
+			}
+			if(this.depth > 0 && this.ply < RootSplitAnalysis.this.splitDepth) {
+				final List<SplitTask> subtasks = new ArrayList<SplitTask>();
+				for(final Move move : player.getLegalMoves()) {
+					final MoveTransition transition = player.makeMove(move);
+					if(transition.getMoveStatus().isDone()) {
+						subtasks.add(new SplitTask(transition.getBoard(), this.depth - 1, this.ply + 1));
+					}
+				}
+				int bestScore = -AlphaBetaSearch.INFINITY;
+				for(final SplitTask subtask : ForkJoinTask.invokeAll(subtasks)) {
+					bestScore = Math.max(bestScore, negate(subtask.join()));
+				}
+				return bestScore;
+			}
+			final AlphaBetaSearch search = RootSplitAnalysis.this.searches.get();
+			final SearchLimits limits = SearchLimits.depth(Math.max(1, this.depth));
+			search.prepare(limits, System.currentTimeMillis());
+			if(this.depth == 0) {
+				return search.quiescence(this.board, -AlphaBetaSearch.INFINITY, AlphaBetaSearch.INFINITY, 0);
+			}
+			return search.iterate(this.board, limits, 1).getScore();
+		}
+
+	}
+
+}
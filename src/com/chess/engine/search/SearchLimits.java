@@ -0,0 +1,48 @@
+package com.chess.engine.search;
+
+public final class SearchLimits {
+
+	public static final int MAX_DEPTH = 64;
+	public static final long NO_TIME_LIMIT = Long.MAX_VALUE;
+
+	private final int maxDepth;
+	private final long maxTimeMillis;
+
+	public SearchLimits(final int maxDepth, final long maxTimeMillis) {
+		if(maxDepth < 1 || maxDepth > MAX_DEPTH) {
+			throw new RuntimeException(String.format("Search depth must be between 1 and %d!", MAX_DEPTH));
+		}
+		if(maxTimeMillis <= 0) {
+			throw new RuntimeException("Search time must be positive!");
+		}
+		this.maxDepth = maxDepth;
+		this.maxTimeMillis = maxTimeMillis;
+	}
+
+	public static SearchLimits depth(final int maxDepth) {
+		return new SearchLimits(maxDepth, NO_TIME_LIMIT);
+	}
+
+	public static SearchLimits time(final long maxTimeMillis) {
+		return new SearchLimits(MAX_DEPTH, maxTimeMillis);
+	}
+
+	public int getMaxDepth() {
+		return this.maxDepth;
+	}
+
+	public long getMaxTimeMillis() {
+		return this.maxTimeMillis;
+	}
+
+	public boolean hasTimeLimit() {
+		return this.maxTimeMillis != NO_TIME_LIMIT;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("SearchLimits[Depth: %d, Time: %s]", this.maxDepth,
+				hasTimeLimit() ? this.maxTimeMillis + " ms" : "none");
+	}
+
+}
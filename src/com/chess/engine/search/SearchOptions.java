@@ -0,0 +1,245 @@
+package com.chess.engine.search;
+
+public final class SearchOptions {
+
+	private static final SearchOptions DEFAULTS = new Builder().build();
+	private static final SearchOptions NONE = new Builder().setNullMovePruning(false).setLateMoveReductions(false)
+			.setFutilityPruning(false).setRazoring(false).setAspirationWindows(false).build();
+
+	private final boolean nullMovePruning;
+	private final int nullMoveReduction;
+	private final int nullMoveMinDepth;
+	private final boolean lateMoveReductions;
+	private final int lateMoveMinDepth;
+	private final int lateMoveThreshold;
+	private final int lateMoveReduction;
+	private final boolean futilityPruning;
+	private final int futilityMaxDepth;
+	private final int futilityMargin;
+	private final boolean razoring;
+	private final int razoringMaxDepth;
+	private final int razoringMargin;
+	private final boolean aspirationWindows;
+	private final int aspirationMinDepth;
+	private final int aspirationWindow;
+
+	private SearchOptions(final Builder builder) {
+		this.nullMovePruning = builder.nullMovePruning;
+		this.nullMoveReduction = builder.nullMoveReduction;
+		this.nullMoveMinDepth = builder.nullMoveMinDepth;
+		this.lateMoveReductions = builder.lateMoveReductions;
+		this.lateMoveMinDepth = builder.lateMoveMinDepth;
+		this.lateMoveThreshold = builder.lateMoveThreshold;
+		this.lateMoveReduction = builder.lateMoveReduction;
+		this.futilityPruning = builder.futilityPruning;
+		this.futilityMaxDepth = builder.futilityMaxDepth;
+		this.futilityMargin = builder.futilityMargin;
+		this.razoring = builder.razoring;
+		this.razoringMaxDepth = builder.razoringMaxDepth;
+		this.razoringMargin = builder.razoringMargin;
+		this.aspirationWindows = builder.aspirationWindows;
+		this.aspirationMinDepth = builder.aspirationMinDepth;
+		this.aspirationWindow = builder.aspirationWindow;
+	}
+
+	public static SearchOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static SearchOptions none() {
+		return NONE;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public boolean isNullMovePruning() {
+		return this.nullMovePruning;
+	}
+
+	public int getNullMoveReduction() {
+		return this.nullMoveReduction;
+	}
+
+	public int getNullMoveMinDepth() {
+		return this.nullMoveMinDepth;
+	}
+
+	public boolean isLateMoveReductions() {
+		return this.lateMoveReductions;
+	}
+
+	public int getLateMoveMinDepth() {
+		return this.lateMoveMinDepth;
+	}
+
+	public int getLateMoveThreshold() {
+		return this.lateMoveThreshold;
+	}
+
+	public int getLateMoveReduction() {
+		return this.lateMoveReduction;
+	}
+
+	public boolean isFutilityPruning() {
+		return this.futilityPruning;
+	}
+
+	public int getFutilityMaxDepth() {
+		return this.futilityMaxDepth;
+	}
+
+	public int getFutilityMargin() {
+		return this.futilityMargin;
+	}
+
+	public boolean isRazoring() {
+		return this.razoring;
+	}
+
+	public int getRazoringMaxDepth() {
+		return this.razoringMaxDepth;
+	}
+
+	public int getRazoringMargin() {
+		return this.razoringMargin;
+	}
+
+	public boolean isAspirationWindows() {
+		return this.aspirationWindows;
+	}
+
+	public int getAspirationMinDepth() {
+		return this.aspirationMinDepth;
+	}
+
+	public int getAspirationWindow() {
+		return this.aspirationWindow;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("SearchOptions[NullMove: %s (R=%d, depth>=%d), LMR: %s (depth>=%d, after %d moves, R=%d), " +
+				"Futility: %s (depth<=%d, margin %d), Razoring: %s (depth<=%d, margin %d), " +
+				"Aspiration: %s (depth>=%d, window %d)]",
+				this.nullMovePruning, this.nullMoveReduction, this.nullMoveMinDepth,
+				this.lateMoveReductions, this.lateMoveMinDepth, this.lateMoveThreshold, this.lateMoveReduction,
+				this.futilityPruning, this.futilityMaxDepth, this.futilityMargin,
+				this.razoring, this.razoringMaxDepth, this.razoringMargin,
+				this.aspirationWindows, this.aspirationMinDepth, this.aspirationWindow);
+	}
+
+	public static final class Builder {
+
+		private boolean nullMovePruning = true;
+		private int nullMoveReduction = 2;
+		private int nullMoveMinDepth = 3;
+		private boolean lateMoveReductions = true;
+		private int lateMoveMinDepth = 3;
+		private int lateMoveThreshold = 4;
+		private int lateMoveReduction = 1;
+		private boolean futilityPruning = true;
+		private int futilityMaxDepth = 3;
+		private int futilityMargin = 150;
+		private boolean razoring = true;
+		private int razoringMaxDepth = 2;
+		private int razoringMargin = 300;
+		private boolean aspirationWindows = true;
+		private int aspirationMinDepth = 4;
+		private int aspirationWindow = 50;
+
+		public Builder setNullMovePruning(final boolean nullMovePruning) {
+			this.nullMovePruning = nullMovePruning;
+			return this;
+		}
+
+		public Builder setNullMoveReduction(final int nullMoveReduction) {
+			this.nullMoveReduction = requirePositive(nullMoveReduction, "Null move reduction");
+			return this;
+		}
+
+		public Builder setNullMoveMinDepth(final int nullMoveMinDepth) {
+			this.nullMoveMinDepth = requirePositive(nullMoveMinDepth, "Null move depth");
+			return this;
+		}
+
+		public Builder setLateMoveReductions(final boolean lateMoveReductions) {
+			this.lateMoveReductions = lateMoveReductions;
+			return this;
+		}
+
+		public Builder setLateMoveMinDepth(final int lateMoveMinDepth) {
+			this.lateMoveMinDepth = requirePositive(lateMoveMinDepth, "Late move reduction depth");
+			return this;
+		}
+
+		public Builder setLateMoveThreshold(final int lateMoveThreshold) {
+			this.lateMoveThreshold = requirePositive(lateMoveThreshold, "Late move threshold");
+			return this;
+		}
+
+		public Builder setLateMoveReduction(final int lateMoveReduction) {
+			this.lateMoveReduction = requirePositive(lateMoveReduction, "Late move reduction");
+			return this;
+		}
+
+		public Builder setFutilityPruning(final boolean futilityPruning) {
+			this.futilityPruning = futilityPruning;
+			return this;
+		}
+
+		public Builder setFutilityMaxDepth(final int futilityMaxDepth) {
+			this.futilityMaxDepth = requirePositive(futilityMaxDepth, "Futility depth");
+			return this;
+		}
+
+		public Builder setFutilityMargin(final int futilityMargin) {
+			this.futilityMargin = requirePositive(futilityMargin, "Futility margin");
+			return this;
+		}
+
+		public Builder setRazoring(final boolean razoring) {
+			this.razoring = razoring;
+			return this;
+		}
+
+		public Builder setRazoringMaxDepth(final int razoringMaxDepth) {
+			this.razoringMaxDepth = requirePositive(razoringMaxDepth, "Razoring depth");
+			return this;
+		}
+
+		public Builder setRazoringMargin(final int razoringMargin) {
+			this.razoringMargin = requirePositive(razoringMargin, "Razoring margin");
+			return this;
+		}
+
+		public Builder setAspirationWindows(final boolean aspirationWindows) {
+			this.aspirationWindows = aspirationWindows;
+			return this;
+		}
+
+		public Builder setAspirationMinDepth(final int aspirationMinDepth) {
+			this.aspirationMinDepth = requirePositive(aspirationMinDepth, "Aspiration depth");
+			return this;
+		}
+
+		public Builder setAspirationWindow(final int aspirationWindow) {
+			this.aspirationWindow = requirePositive(aspirationWindow, "Aspiration window");
+			return this;
+		}
+
+		public SearchOptions build() {
+			return new SearchOptions(this);
+		}
+
+		private static int requirePositive(final int value, final String name) {
+			if(value < 1) {
+				throw new RuntimeException(String.format("%s must be positive but was %d!", name, value));
+			}
+			return value;
+		}
+
+	}
+
+}
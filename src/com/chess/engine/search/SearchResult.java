@@ -0,0 +1,80 @@
+package com.chess.engine.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.chess.engine.move.EncodedMove;
+import com.chess.engine.move.Move;
+
+public final class SearchResult {
+
+	private final List<Move> principalVariation;
+	private final int score;
+	private final int depth;
+	private final long nodes;
+	private final long elapsedMillis;
+	private final long[] threadNodes;
+
+	SearchResult(final List<Move> principalVariation, final int score, final int depth, final long nodes,
+			final long elapsedMillis) {
+		this(principalVariation, score, depth, new long[] { nodes }, elapsedMillis);
+	}
+
+	SearchResult(final List<Move> principalVariation, final int score, final int depth, final long[] threadNodes,
+			final long elapsedMillis) {
+		this.principalVariation = Collections.unmodifiableList(principalVariation);
+		this.score = score;
+		this.depth = depth;
+		this.nodes = Arrays.stream(threadNodes).sum();
+		this.elapsedMillis = elapsedMillis;
+		this.threadNodes = threadNodes;
+	}
+
+	public Move getBestMove() {
+		return this.principalVariation.isEmpty() ? Move.NULL_MOVE : this.principalVariation.get(0);
+	}
+
+	public List<Move> getPrincipalVariation() {
+		return this.principalVariation;
+	}
+
+	public int getScore() {
+		return this.score;
+	}
+
+	public int getDepth() {
+		return this.depth;
+	}
+
+	public long getNodes() {
+		return this.nodes;
+	}
+
+	public long[] getThreadNodes() {
+		return this.threadNodes.clone();
+	}
+
+	public long getElapsedMillis() {
+		return this.elapsedMillis;
+	}
+
+	public long getNodesPerSecond() {
+		return this.elapsedMillis == 0 ? 0 : this.nodes * 1000 / this.elapsedMillis;
+	}
+
+	public boolean isMateScore() {
+		return Math.abs(this.score) >= AlphaBetaSearch.MATE_BOUND;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder pv = new StringBuilder();
+		for(final Move move : this.principalVariation) {
+			pv.append(' ').append(EncodedMove.toString(EncodedMove.fromMove(move)));
+		}
+		return String.format("Depth: %d, Score: %d, Nodes: %d, Time: %d ms, NPS: %d, PV:%s", this.depth,
+				this.score, this.nodes, this.elapsedMillis, getNodesPerSecond(), pv);
+	}
+
+}
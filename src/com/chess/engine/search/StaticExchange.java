@@ -0,0 +1,72 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.BitBoard;
+import com.chess.engine.board.Board;
+import com.chess.engine.move.EncodedMove;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.Alliance;
+
+public final class StaticExchange {
+
+	private static final Piece.Type[] ATTACKER_ORDER = {
+		Piece.Type.PAWN, Piece.Type.KNIGHT, Piece.Type.BISHOP, Piece.Type.ROOK, Piece.Type.QUEEN, Piece.Type.KING
+	};
+
+	private StaticExchange() {
+		throw new RuntimeException("Non instantiable!");
+	}
+
+	public static boolean isAtLeast(final Board board, final int move, final int threshold) {
+		final int position = EncodedMove.getPosition(move);
+		final int destination = EncodedMove.getDestination(move);
+		final Piece.Type capturedType = EncodedMove.getCapturedType(move);
+		final Piece.Type promotionType = EncodedMove.getPromotionType(move);
+
+		int swap = (capturedType == null ? 0 : capturedType.getValue()) - threshold;
+		int attackerValue = board.getPiece(position).getType().getValue();
+		if(promotionType != null) {
+			swap += promotionType.getValue() - Piece.Type.PAWN.getValue();
+			attackerValue = promotionType.getValue();
+		}
+		if(swap < 0) {
+			return false;
+		}
+		swap = attackerValue - swap;
+		if(swap <= 0) {
+			return true;
+		}
+
+		long occupancy = board.getOccupancy() & ~BitBoard.squareMask(position);
+		if(EncodedMove.getKind(move) == EncodedMove.EN_PASSANT) {
+			occupancy &= ~BitBoard.squareMask(board.getEnPassantPawn().getPosition());
+		}
+		Alliance side = board.getMoveMaker();
+		boolean result = true;
+		while(true) {
+			side = side.getOpposite();
+			final long attackers = occupancy & board.calculateAttackers(destination, side, occupancy);
+			if(attackers == BitBoard.EMPTY) {
+				break;
+			}
+			result = !result;
+			Piece.Type attackerType = Piece.Type.KING;
+			for(final Piece.Type type : ATTACKER_ORDER) {
+				if((attackers & board.getPieces(side, type)) != BitBoard.EMPTY) {
+					attackerType = type;
+					break;
+				}
+			}
+			if(attackerType == Piece.Type.KING) {
+				final long defenders = occupancy & board.calculateAttackers(destination, side.getOpposite(), occupancy);
+				return defenders != BitBoard.EMPTY ? !result : result;
+			}
+			swap = attackerType.getValue() - swap;
+			if(swap < (result ? 1 : 0)) {
+				break;
+			}
+			occupancy &= ~BitBoard.squareMask(BitBoard.firstSquare(attackers & board.getPieces(side, attackerType)));
+		}
+		return result;
+	}
+
+}
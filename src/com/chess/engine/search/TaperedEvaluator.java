@@ -0,0 +1,66 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.BitBoard;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.PieceSquareTables;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.board.Zobrist;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.Alliance;
+
+public class TaperedEvaluator implements BoardEvaluator {
+
+	private final PawnHashTable pawnHashTable;
+
+	public TaperedEvaluator(final PawnHashTable pawnHashTable) {
+		this.pawnHashTable = pawnHashTable;
+	}
+
+	public TaperedEvaluator() {
+		this(new PawnHashTable());
+	}
+
+	@Override
+	public int evaluate(final Board board) {
+		final long whitePawns = board.getPieces(Alliance.WHITE, Piece.Type.PAWN);
+		final long blackPawns = board.getPieces(Alliance.BLACK, Piece.Type.PAWN);
+		final int score = board.getPieceSquareScore() +
+			evaluatePawns(board.getPawnKey(), whitePawns, blackPawns) +
+			PawnStructure.evaluateKingShield(Alliance.WHITE,
+					BitBoard.firstSquare(board.getPieces(Alliance.WHITE, Piece.Type.KING)), whitePawns) -
+			PawnStructure.evaluateKingShield(Alliance.BLACK,
+					BitBoard.firstSquare(board.getPieces(Alliance.BLACK, Piece.Type.KING)), blackPawns);
+		final int taperedScore = PieceSquareTables.taper(score, PieceSquareTables.calculatePhase(board));
+		return board.getMoveMaker().isWhite() ? taperedScore : -taperedScore;
+	}
+
+	public int evaluate(final SearchBoard board) {
+		final long whitePawns = board.getPieces(Alliance.WHITE, Piece.Type.PAWN);
+		final long blackPawns = board.getPieces(Alliance.BLACK, Piece.Type.PAWN);
+		final int score = board.getPieceSquareScore() +
+			evaluatePawns(Zobrist.calculatePawnKey(whitePawns, blackPawns), whitePawns, blackPawns) +
+			PawnStructure.evaluateKingShield(Alliance.WHITE,
+					BitBoard.firstSquare(board.getPieces(Alliance.WHITE, Piece.Type.KING)), whitePawns) -
+			PawnStructure.evaluateKingShield(Alliance.BLACK,
+					BitBoard.firstSquare(board.getPieces(Alliance.BLACK, Piece.Type.KING)), blackPawns);
+		final int taperedScore = PieceSquareTables.taper(score, board.getPhase());
+		return board.getMoveMaker().isWhite() ? taperedScore : -taperedScore;
+	}
+
+	public PawnHashTable getPawnHashTable() {
+		return this.pawnHashTable;
+	}
+
+	private int evaluatePawns(final long pawnKey, final long whitePawns, final long blackPawns) {
+		int index = this.pawnHashTable.probe(pawnKey);
+		if(index == PawnHashTable.NOT_FOUND) {
+			final long whitePassedPawns = PawnStructure.calculatePassedPawns(Alliance.WHITE, whitePawns, blackPawns);
+			final long blackPassedPawns = PawnStructure.calculatePassedPawns(Alliance.BLACK, blackPawns, whitePawns);
+			index = this.pawnHashTable.store(pawnKey,
+					PawnStructure.evaluate(whitePawns, blackPawns, whitePassedPawns, blackPassedPawns),
+					whitePassedPawns, blackPassedPawns);
+		}
+		return this.pawnHashTable.getScore(index);
+	}
+
+}
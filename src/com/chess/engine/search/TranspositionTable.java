@@ -0,0 +1,207 @@
+package com.chess.engine.search;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.chess.engine.move.EncodedMove;
+
+public final class TranspositionTable {
+
+	public static final long NO_ENTRY = 0L;
+
+	public static final int EXACT = 1;
+	public static final int LOWER_BOUND = 2;
+	public static final int UPPER_BOUND = 3;
+
+	public static final int DEFAULT_SIZE_MB = 16;
+	public static final int MAX_DEPTH = 0xFF;
+	public static final int MAX_SCORE = Short.MAX_VALUE;
+
+	private static final int BUCKET_SIZE = 4;
+	private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+
+	private static final int MOVE_MASK = 0xFFFF;
+	private static final int SCORE_SHIFT = 16;
+	private static final int DEPTH_SHIFT = 32;
+	private static final int BOUND_SHIFT = 40;
+	private static final int BOUND_MASK = 0x3;
+	private static final int AGE_SHIFT = 42;
+	private static final int AGE_MASK = 0x3F;
+
+	private final long[] keys;
+	private final long[] data;
+	private final int bucketMask;
+	private volatile int age;
+
+	private final LongAdder probes;
+	private final LongAdder hits;
+	private final LongAdder stores;
+	private final LongAdder collisions;
+
+	public TranspositionTable(final int sizeInMB) {
+		if(sizeInMB <= 0) {
+			throw new RuntimeException(String.format("Invalid transposition table size: %d MB!", sizeInMB));
+		}
+		final long entries = (long) sizeInMB * 1024 * 1024 / BYTES_PER_ENTRY;
+		final int buckets = Integer.highestOneBit((int) Math.min(entries / BUCKET_SIZE, Integer.MAX_VALUE / BUCKET_SIZE));
+		this.keys = new long[buckets * BUCKET_SIZE];
+		this.data = new long[buckets * BUCKET_SIZE];
+		this.bucketMask = buckets - 1;
+		this.probes = new LongAdder();
+		this.hits = new LongAdder();
+		this.stores = new LongAdder();
+		this.collisions = new LongAdder();
+	}
+
+	public TranspositionTable() {
+		this(DEFAULT_SIZE_MB);
+	}
+
+	public long probe(final long key) {
+		this.probes.increment();
+		final int bucket = bucketOf(key);
+		for(int i = bucket; i < bucket + BUCKET_SIZE; i++) {
+			final long entry = this.data[i];
+			if(entry != NO_ENTRY && (this.keys[i] ^ entry) == key) {
+				this.hits.increment();
+				return entry;
+			}
+		}
+		return NO_ENTRY;
+	}
+
+	public void store(final long key, final int move, final int score, final int depth, final int bound) {
+		final int bucket = bucketOf(key);
+		final int age = this.age;
+		int replace = bucket;
+		int replaceValue = Integer.MAX_VALUE;
+		long previous = NO_ENTRY;
+		boolean isSameKey = false;
+		for(int i = bucket; i < bucket + BUCKET_SIZE; i++) {
+			final long entry = this.data[i];
+			if(entry == NO_ENTRY || (this.keys[i] ^ entry) == key) {
+				replace = i;
+				previous = entry;
+				isSameKey = entry != NO_ENTRY;
+				break;
+			}
+			final int value = getDepth(entry) - 8 * ((age - getAge(entry)) & AGE_MASK);
+			if(value < replaceValue) {
+				replace = i;
+				replaceValue = value;
+				previous = entry;
+			}
+		}
+		if(previous != NO_ENTRY && !isSameKey) {
+			this.collisions.increment();
+		}
+		final int bestMove = move == EncodedMove.NONE && isSameKey ? getMove(previous) : move;
+		final long entry = pack(bestMove, score, depth, bound, age);
+		this.keys[replace] = key ^ entry;
+		this.data[replace] = entry;
+		this.stores.increment();
+	}
+
+	public void newSearch() {
+		this.age = (this.age + 1) & AGE_MASK;
+	}
+
+	public void clear() {
+		Arrays.fill(this.keys, 0L);
+		Arrays.fill(this.data, NO_ENTRY);
+		this.age = 0;
+		resetStatistics();
+	}
+
+	public void resetStatistics() {
+		this.probes.reset();
+		this.hits.reset();
+		this.stores.reset();
+		this.collisions.reset();
+	}
+
+	public int getCapacity() {
+		return this.keys.length;
+	}
+
+	public long getProbes() {
+		return this.probes.sum();
+	}
+
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	public long getMisses() {
+		return getProbes() - getHits();
+	}
+
+	public long getStores() {
+		return this.stores.sum();
+	}
+
+	public long getCollisions() {
+		return this.collisions.sum();
+	}
+
+	public double getHitRate() {
+		final long probes = getProbes();
+		return probes == 0 ? 0 : (double) getHits() / probes;
+	}
+
+	public int getHashFull() {
+		final int sample = Math.min(1000, this.data.length);
+		int used = 0;
+		for(int i = 0; i < sample; i++) {
+			if(this.data[i] != NO_ENTRY && getAge(this.data[i]) == this.age) {
+				used++;
+			}
+		}
+		return used * 1000 / sample;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("TranspositionTable[Entries: %d, Probes: %d, Hits: %d, Misses: %d, Stores: %d, " +
+				"Collisions: %d, HashFull: %d]", getCapacity(), getProbes(), getHits(), getMisses(), getStores(),
+				getCollisions(), getHashFull());
+	}
+
+	public static int getMove(final long entry) {
+		return (int) (entry & MOVE_MASK);
+	}
+
+	public static int getScore(final long entry) {
+		return (short) (entry >>> SCORE_SHIFT);
+	}
+
+	public static int getDepth(final long entry) {
+		return (int) (entry >>> DEPTH_SHIFT) & MAX_DEPTH;
+	}
+
+	public static int getBound(final long entry) {
+		return (int) (entry >>> BOUND_SHIFT) & BOUND_MASK;
+	}
+
+	private static int getAge(final long entry) {
+		return (int) (entry >>> AGE_SHIFT) & AGE_MASK;
+	}
+
+	private static long pack(final int move, final int score, final int depth, final int bound, final int age) {
+		if(bound < EXACT || bound > UPPER_BOUND) {
+			throw new RuntimeException(String.format("Invalid bound type: %d!", bound));
+		}
+		final int clampedScore = Math.max(-MAX_SCORE, Math.min(MAX_SCORE, score));
+		final int clampedDepth = Math.max(0, Math.min(MAX_DEPTH, depth));
+		return (move & MOVE_MASK) |
+				(long) (clampedScore & 0xFFFF) << SCORE_SHIFT |
+				(long) clampedDepth << DEPTH_SHIFT |
+				(long) bound << BOUND_SHIFT |
+				(long) age << AGE_SHIFT;
+	}
+
+	private int bucketOf(final long key) {
+		return ((int) (key ^ key >>> 32) & this.bucketMask) * BUCKET_SIZE;
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.chess.engine.board;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public class FenUtilitiesTest {
+
+	private static final String[] FENS = {
+		FenUtilities.STANDARD_FEN,
+		"rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1",
+		"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+		"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+		"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+		"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+		"4k3/8/8/8/8/8/8/4K2R b K - 37 112"
+	};
+
+	@Test
+	public void testRoundTrip() {
+		for(final String fen : FENS) {
+			assertEquals(fen, FenUtilities.createFENFromGame(FenUtilities.createGameFromFEN(fen)));
+		}
+	}
+
+	@Test
+	public void testTrailingGarbage() {
+		try {
+			FenUtilities.createGameFromFEN(FenUtilities.STANDARD_FEN + " garbage xyz");
+			fail("Expected trailing characters to be rejected");
+		}catch(final RuntimeException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testStandardBoard() {
+		assertEquals(FenUtilities.STANDARD_FEN, FenUtilities.createFENFromGame(Board.createStandardBoard()));
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.chess.engine.board;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.chess.engine.move.Move;
+import com.chess.engine.move.MoveTransition;
+
+public class PieceSquareTablesTest {
+
+	@Test
+	public void testIncrementalScore() {
+		assertScores(Board.createStandardBoard(), 3);
+		assertScores(FenUtilities.createGameFromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"), 3);
+		assertScores(FenUtilities.createGameFromFEN("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"), 3);
+		assertScores(FenUtilities.createGameFromFEN("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"), 3);
+	}
+
+	private static void assertScores(final Board board, final int depth) {
+		assertEquals(PieceSquareTables.calculateScore(board), board.getPieceSquareScore());
+		if(depth == 0) {
+			return;
+		}
+		for(final Move move : board.getCurrentPlayer().getLegalMoves()) {
+			final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+			if(transition.getMoveStatus().isDone()) {
+				assertScores(transition.getBoard(), depth - 1);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.chess.engine.board;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.chess.engine.move.Move;
+import com.chess.engine.move.MoveTransition;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.Alliance;
+
+public class ZobristTest {
+
+	@Test
+	public void testPolyglotKeys() {
+		assertEquals(0x463B96181691FC9CL, Board.createStandardBoard().getZobristKey());
+		assertEquals(0x463B96181691FC9CL, Zobrist.calculateKey(Board.createStandardBoard()));
+		assertEquals(0x823C9B50FD114196L,
+				FenUtilities.createGameFromFEN("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1").getZobristKey());
+		assertEquals(0x22A48B5A8E47FF78L,
+				FenUtilities.createGameFromFEN("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3").getZobristKey());
+	}
+
+	@Test
+	public void testIncrementalKey() {
+		assertKeys(FenUtilities.createGameFromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"), 3);
+		assertKeys(FenUtilities.createGameFromFEN("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"), 3);
+		assertKeys(FenUtilities.createGameFromFEN("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"), 3);
+		assertKeys(FenUtilities.createGameFromFEN("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"), 4);
+	}
+
+	@Test
+	public void testIncrementalPawnKey() {
+		assertPawnKeys(FenUtilities.createGameFromFEN("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"), 2);
+		assertPawnKeys(FenUtilities.createGameFromFEN("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"), 3);
+	}
+
+	private static void assertKeys(final Board board, final int depth) {
+		assertEquals(Zobrist.calculateKey(board), board.getZobristKey());
+		if(depth == 0) {
+			return;
+		}
+		for(final Move move : board.getCurrentPlayer().getLegalMoves()) {
+			final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+			if(transition.getMoveStatus().isDone()) {
+				assertKeys(transition.getBoard(), depth - 1);
+			}
+		}
+	}
+
+	private static void assertPawnKeys(final Board board, final int depth) {
+		assertEquals(Zobrist.calculatePawnKey(board.getPieces(Alliance.WHITE, Piece.Type.PAWN),
+				board.getPieces(Alliance.BLACK, Piece.Type.PAWN)), board.getPawnKey());
+		if(depth == 0) {
+			return;
+		}
+		for(final Move move : board.getCurrentPlayer().getLegalMoves()) {
+			final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+			if(transition.getMoveStatus().isDone()) {
+				assertPawnKeys(transition.getBoard(), depth - 1);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.chess.engine.book;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.chess.engine.board.Board;
+
+public class BookBuilderTest {
+
+	private static final String GAMES =
+		"[Event \"1\"]\n\n1. e4 e5 2. Nf3 Nc6 1-0\n\n" +
+		"[Event \"2\"]\n\n1. e4 {comment} c5 (1... e6 2. d4) 2. Nf3 0-1\n\n" +
+		"[Event \"3\"]\n\n1. e4 e5 2. Bc4 1/2-1/2\n\n" +
+		"[Event \"4\"]\n\n1. d4 d5 *\n\n" +
+		"[Event \"5\"]\n\n1. e4 e5 2. Qxf7 1-0\n";
+
+	private static final String EN_PASSANT_GAMES =
+		"1. e4 Nf6 2. e5 d5 3. exd6 e.p. exd6 *\n" +
+		"1. e4 Nf6 2. e5 d5 3. exd6e.p.+ exd6 *\n";
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testBuildThenRead() throws IOException {
+		final Path pgn = this.folder.newFile("games.pgn").toPath();
+		Files.write(pgn, GAMES.getBytes(StandardCharsets.ISO_8859_1));
+		final Path output = this.folder.getRoot().toPath().resolve("book.bin");
+
+		final BookBuilder builder = new BookBuilder(2, BookBuilder.DEFAULT_MAX_PLY, 1, 4, this.folder.getRoot().toPath());
+		final BookBuilder.BuildResult result = builder.build(Collections.singletonList(pgn), output);
+		assertEquals(5, result.getGames());
+		assertEquals(1, result.getRejectedGames());
+		assertEquals(12, result.getPositions());
+		assertEquals(9, result.getEntries());
+		assertEquals(result.getEntries() * PolyglotBook.ENTRY_SIZE, Files.size(output));
+
+		final PolyglotBook book = PolyglotBook.open(output);
+		assertEquals(result.getEntries(), book.getNumEntries());
+		Board board = Board.createStandardBoard();
+		List<BookMove> moves = book.getMoves(board);
+		assertEquals(2, moves.size());
+		assertMove(moves.get(0), board, "e4", 3);
+		assertMove(moves.get(1), board, "d4", 1);
+
+		board = board.getCurrentPlayer().makeMove(moves.get(0).getMove()).getBoard();
+		moves = book.getMoves(board);
+		assertEquals(2, moves.size());
+		assertMove(moves.get(0), board, "e5", 2);
+		assertMove(moves.get(1), board, "c5", 1);
+	}
+
+	@Test
+	public void testEnPassantAnnotation() throws IOException {
+		final Path pgn = this.folder.newFile("en-passant.pgn").toPath();
+		Files.write(pgn, EN_PASSANT_GAMES.getBytes(StandardCharsets.ISO_8859_1));
+		final Path output = this.folder.getRoot().toPath().resolve("en-passant.bin");
+
+		final BookBuilder builder = new BookBuilder(1, BookBuilder.DEFAULT_MAX_PLY, 1, 64, this.folder.getRoot().toPath());
+		final BookBuilder.BuildResult result = builder.build(Collections.singletonList(pgn), output);
+		assertEquals(2, result.getGames());
+		assertEquals(0, result.getRejectedGames());
+		assertEquals(12, result.getPositions());
+		assertEquals(6, result.getEntries());
+	}
+
+	private static void assertMove(final BookMove move, final Board board, final String san, final int weight) {
+		assertEquals(SanUtilities.resolveMove(board, san), move.getMove());
+		assertEquals(weight, move.getWeight());
+	}
+
+}
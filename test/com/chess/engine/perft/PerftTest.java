@@ -0,0 +1,34 @@
+package com.chess.engine.perft;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.perft.PerftSuite.PerftPosition;
+
+public class PerftTest {
+
+	private static final int MAX_DEPTH = 4;
+
+	@Test
+	public void testBoard() {
+		for(final PerftPosition position : PerftSuite.POSITIONS) {
+			for(int depth = 1; depth <= MAX_DEPTH; depth++) {
+				assertEquals(position.getName() + " depth " + depth, position.getExpectedNodes(depth),
+						Perft.perft(position.createBoard(), depth));
+			}
+		}
+	}
+
+	@Test
+	public void testSearchBoard() {
+		for(final PerftPosition position : PerftSuite.POSITIONS) {
+			for(int depth = 1; depth <= MAX_DEPTH; depth++) {
+				assertEquals(position.getName() + " depth " + depth, position.getExpectedNodes(depth),
+						Perft.perft(new SearchBoard(position.createBoard()), depth));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.chess.engine.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.move.Move;
+
+public class AlphaBetaSearchTest {
+
+	@Test
+	public void testMateInOne() {
+		final Board board = FenUtilities.createGameFromFEN("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+		final SearchResult result = new AlphaBetaSearch().search(board, SearchLimits.depth(4));
+		assertMove(result.getBestMove(), 56, 0);
+		assertEquals(AlphaBetaSearch.MATE - 1, result.getScore());
+	}
+
+	@Test
+	public void testMateInTwo() {
+		final Board board = FenUtilities.createGameFromFEN("kbK5/pp6/1P6/8/8/8/8/R7 w - - 0 1");
+		final SearchResult result = new AlphaBetaSearch().search(board, SearchLimits.depth(6));
+		assertMove(result.getBestMove(), 56, 16);
+		assertEquals(AlphaBetaSearch.MATE - 3, result.getScore());
+	}
+
+	@Test
+	public void testCompletesFirstDepth() {
+		final Board board = FenUtilities.createGameFromFEN(
+				"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		final SearchResult result = new AlphaBetaSearch().search(board, SearchLimits.time(1));
+		assertTrue(result.getDepth() >= 1);
+		assertNotEquals(Move.NULL_MOVE, result.getBestMove());
+	}
+
+	@Test
+	public void testDeadlineSaturates() {
+		final Board board = Board.createStandardBoard();
+		final SearchResult result = new AlphaBetaSearch().search(board, new SearchLimits(2, Long.MAX_VALUE - 1));
+		assertEquals(2, result.getDepth());
+	}
+
+	private static void assertMove(final Move move, final int position, final int destination) {
+		assertEquals(position, move.getPosition());
+		assertEquals(destination, move.getDestination());
+	}
+
+}
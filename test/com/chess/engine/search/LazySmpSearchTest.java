@@ -0,0 +1,26 @@
+package com.chess.engine.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.move.Move;
+
+public class LazySmpSearchTest {
+
+	@Test
+	public void testReturnsLegalMove() {
+		final Board board = FenUtilities.createGameFromFEN(
+				"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		final SearchResult result = new LazySmpSearch(4).search(board, SearchLimits.depth(5));
+		final Move bestMove = result.getBestMove();
+		assertTrue(bestMove.toString(), board.getCurrentPlayer().getLegalMoves().contains(bestMove));
+		assertTrue(board.getCurrentPlayer().makeMove(bestMove).getMoveStatus().isDone());
+		assertEquals(5, result.getDepth());
+		assertEquals(4, result.getThreadNodes().length);
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.chess.engine.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.move.EncodedMove;
+import com.chess.engine.move.Move;
+import com.chess.engine.move.MoveBuffer;
+
+public class MovePickerTest {
+
+	private static final String[] FENS = {
+		"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+		"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+		"rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"
+	};
+
+	@Test
+	public void testYieldsEveryMoveOnce() {
+		for(final String fen : FENS) {
+			final Board board = FenUtilities.createGameFromFEN(fen);
+			final List<Integer> legalMoves = new ArrayList<Integer>();
+			for(final Move move : board.getCurrentPlayer().getLegalMoves()) {
+				legalMoves.add(EncodedMove.fromMove(move));
+			}
+			for(final int hashMove : legalMoves) {
+				assertPicks(board, legalMoves, hashMove);
+			}
+			assertPicks(board, legalMoves, EncodedMove.NONE);
+		}
+	}
+
+	private static void assertPicks(final Board board, final List<Integer> legalMoves, final int hashMove) {
+		final MoveOrdering ordering = new MoveOrdering(1);
+		for(final int move : legalMoves) {
+			if(!MoveOrdering.isTactical(move)) {
+				ordering.updateQuietHeuristics(move, 1, 0);
+			}
+		}
+		if(hashMove != EncodedMove.NONE && !MoveOrdering.isTactical(hashMove)) {
+			ordering.updateQuietHeuristics(hashMove, 1, 0);
+		}
+		final MovePicker picker = new MovePicker(new MoveBuffer(1), ordering, 0);
+		picker.init(board, EncodedMove.toShortMove(hashMove));
+		final Set<Integer> picked = new HashSet<Integer>();
+		for(int move = picker.next(); move != EncodedMove.NONE; move = picker.next()) {
+			if(picked.isEmpty() && hashMove != EncodedMove.NONE) {
+				assertEquals(hashMove, move);
+			}
+			assertTrue(EncodedMove.toString(move), picked.add(move));
+		}
+		assertEquals(new HashSet<Integer>(legalMoves), picked);
+	}
+
+}
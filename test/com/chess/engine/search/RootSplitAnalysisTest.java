@@ -0,0 +1,37 @@
+package com.chess.engine.search;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.move.Move;
+
+public class RootSplitAnalysisTest {
+
+	private static final String[] FENS = {
+		FenUtilities.STANDARD_FEN,
+		"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+		"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"
+	};
+
+	private static final int DEPTH = 3;
+
+	@Test
+	public void testAgreesWithSerialSearch() {
+		try(final RootSplitAnalysis analysis = new RootSplitAnalysis(2, TaperedEvaluator::new,
+				new TranspositionTable(1), SearchOptions.none())) {
+			for(final String fen : FENS) {
+				final Board board = FenUtilities.createGameFromFEN(fen);
+				final SearchResult serial = new AlphaBetaSearch(new TaperedEvaluator(), new TranspositionTable(1),
+						SearchOptions.none()).search(board, SearchLimits.depth(DEPTH));
+				final Map<Move, Integer> scores = analysis.analyse(board, DEPTH);
+				assertEquals(fen, serial.getScore(), (int) scores.values().iterator().next());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.chess.engine.search;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+
+public class SearchOptionsTest {
+
+	private static final String MATE_IN_TWO = "kbK5/pp6/1P6/8/8/8/8/R7 w - - 0 1";
+
+	@Test
+	public void testEachOptionFindsMate() {
+		for(final boolean enabled : new boolean[] { true, false }) {
+			assertFindsMate(builder(!enabled).setNullMovePruning(enabled).build());
+			assertFindsMate(builder(!enabled).setLateMoveReductions(enabled).build());
+			assertFindsMate(builder(!enabled).setFutilityPruning(enabled).build());
+			assertFindsMate(builder(!enabled).setRazoring(enabled).build());
+			assertFindsMate(builder(!enabled).setAspirationWindows(enabled).build());
+		}
+		assertFindsMate(SearchOptions.defaults());
+		assertFindsMate(SearchOptions.none());
+	}
+
+	private static SearchOptions.Builder builder(final boolean enabled) {
+		return SearchOptions.builder().setNullMovePruning(enabled).setLateMoveReductions(enabled)
+				.setFutilityPruning(enabled).setRazoring(enabled).setAspirationWindows(enabled);
+	}
+
+	private static void assertFindsMate(final SearchOptions options) {
+		final Board board = FenUtilities.createGameFromFEN(MATE_IN_TWO);
+		final SearchResult result = new AlphaBetaSearch(new TaperedEvaluator(), new TranspositionTable(1), options)
+				.search(board, SearchLimits.depth(6));
+		assertEquals(options.toString(), 56, result.getBestMove().getPosition());
+		assertEquals(options.toString(), 16, result.getBestMove().getDestination());
+		assertEquals(options.toString(), AlphaBetaSearch.MATE - 3, result.getScore());
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.chess.engine.search;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtilities;
+import com.chess.engine.board.LegalMoveGenerator;
+import com.chess.engine.move.EncodedMove;
+
+public class StaticExchangeTest {
+
+	@Test
+	public void testWinningCapture() {
+		final Board board = FenUtilities.createGameFromFEN("1k1r4/1pp4p/p7/4p3/8/P5P1/1PP4P/2K1R3 w - - 0 1");
+		final int move = findCapture(board, 60, 28);
+		assertTrue(StaticExchange.isAtLeast(board, move, 0));
+		assertTrue(StaticExchange.isAtLeast(board, move, 100));
+		assertFalse(StaticExchange.isAtLeast(board, move, 101));
+	}
+
+	@Test
+	public void testLosingCapture() {
+		final Board board = FenUtilities.createGameFromFEN("1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1");
+		final int move = findCapture(board, 43, 28);
+		assertTrue(StaticExchange.isAtLeast(board, move, -200));
+		assertFalse(StaticExchange.isAtLeast(board, move, -199));
+		assertFalse(StaticExchange.isAtLeast(board, move, 0));
+	}
+
+	@Test
+	public void testUndefendedCapture() {
+		final Board board = FenUtilities.createGameFromFEN("4k3/8/8/3q4/8/8/8/3QK3 w - - 0 1");
+		final int move = findCapture(board, 59, 27);
+		assertTrue(StaticExchange.isAtLeast(board, move, 900));
+		assertFalse(StaticExchange.isAtLeast(board, move, 901));
+	}
+
+	private static int findCapture(final Board board, final int position, final int destination) {
+		final int[] moves = new int[256];
+		final int count = LegalMoveGenerator.generateTacticalMoves(board, moves, 0);
+		for(int i = 0; i < count; i++) {
+			if(EncodedMove.getPosition(moves[i]) == position && EncodedMove.getDestination(moves[i]) == destination) {
+				return moves[i];
+			}
+		}
+		fail(String.format("No capture from %d to %d!", position, destination));
+		return 0;
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.chess.engine.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+public class TranspositionTableTest {
+
+	private static final long KEY = 0x0123456789ABCDEFL;
+
+	@Test
+	public void testStoreThenProbe() {
+		final TranspositionTable table = new TranspositionTable(1);
+		table.store(KEY, 0x1234, -250, 7, TranspositionTable.LOWER_BOUND);
+		final long entry = table.probe(KEY);
+		assertNotEquals(TranspositionTable.NO_ENTRY, entry);
+		assertEquals(0x1234, TranspositionTable.getMove(entry));
+		assertEquals(-250, TranspositionTable.getScore(entry));
+		assertEquals(7, TranspositionTable.getDepth(entry));
+		assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.getBound(entry));
+	}
+
+	@Test
+	public void testCollidingKeyRejected() {
+		final TranspositionTable table = new TranspositionTable(1);
+		table.store(KEY, 0x1234, 100, 5, TranspositionTable.EXACT);
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY ^ 1L << 63));
+	}
+
+	@Test
+	public void testDeepEntryKeptWithinSearch() {
+		final TranspositionTable table = new TranspositionTable(1);
+		table.store(sameBucket(0), 1, 0, 20, TranspositionTable.EXACT);
+		fillBucket(table);
+		assertNotEquals(TranspositionTable.NO_ENTRY, table.probe(sameBucket(0)));
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(sameBucket(1)));
+	}
+
+	@Test
+	public void testStaleEntryReplaced() {
+		final TranspositionTable table = new TranspositionTable(1);
+		table.store(sameBucket(0), 1, 0, 20, TranspositionTable.EXACT);
+		for(int i = 0; i < 3; i++) {
+			table.newSearch();
+		}
+		fillBucket(table);
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(sameBucket(0)));
+		for(int i = 1; i <= 4; i++) {
+			assertNotEquals(TranspositionTable.NO_ENTRY, table.probe(sameBucket(i)));
+		}
+	}
+
+	private static void fillBucket(final TranspositionTable table) {
+		for(int i = 1; i <= 3; i++) {
+			table.store(sameBucket(i), 1, 0, 5, TranspositionTable.EXACT);
+		}
+		table.store(sameBucket(4), 1, 0, 1, TranspositionTable.EXACT);
+	}
+
+	private static long sameBucket(final int index) {
+		return KEY & ~(0x7FL << 56) | (long) index << 56;
+	}
+
+}